@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.daw;
 
 import com.bitwig.extension.controller.api.BrowserFilterColumn;
+import com.bitwig.extension.controller.api.BrowserResultsItem;
 import com.bitwig.extension.controller.api.BrowserResultsItemBank;
 import com.bitwig.extension.controller.api.CursorBrowserResultItem;
 import com.bitwig.extension.controller.api.CursorDevice;
@@ -34,6 +35,8 @@ import de.mossgrabers.framework.daw.data.IItem;
  */
 public class BrowserImpl extends AbstractBrowser
 {
+    private static final long             INDEX_DELAY   = 100;
+
     private final IHost                   host;
     private final CursorDevice            cursorDevice;
     private final CursorTrack             cursorTrack;
@@ -41,6 +44,7 @@ public class BrowserImpl extends AbstractBrowser
     private final BrowserFilterColumn []  filterColumns;
     private final CursorBrowserResultItem cursorResult;
     private final BrowserResultsItemBank  resultsItemBank;
+    private int                           pendingResult = -1;
 
 
     /**
@@ -63,8 +67,13 @@ public class BrowserImpl extends AbstractBrowser
 
         this.browser = browser;
 
-        this.browser.exists ().addValueObserver (this::fireActiveObserver);
-        this.browser.selectedContentTypeIndex ().markInterested ();
+        this.browser.exists ().addValueObserver (isActive -> {
+
+            this.clearResultIndex ();
+            this.fireActiveObserver (isActive);
+
+        });
+        this.browser.selectedContentTypeIndex ().addValueObserver (index -> this.clearResultIndex ());
         this.browser.selectedContentTypeName ().markInterested ();
         this.browser.contentTypeNames ().markInterested ();
         this.browser.shouldAudition ().markInterested ();
@@ -89,6 +98,8 @@ public class BrowserImpl extends AbstractBrowser
         this.cursorResult.name ().markInterested ();
 
         this.resultsItemBank = (BrowserResultsItemBank) this.cursorResult.createSiblingsBank (this.numResults);
+        this.resultsItemBank.itemCount ().addValueObserver (count -> this.clearResultIndex ());
+        this.resultsItemBank.scrollPosition ().addValueObserver (this::handleResultScrollPosition);
         this.resultData = this.createResultData (this.numResults);
     }
 
@@ -107,6 +118,8 @@ public class BrowserImpl extends AbstractBrowser
             column.enableObservers (enable);
 
         Util.setIsSubscribed (this.cursorResult.name (), enable);
+        Util.setIsSubscribed (this.resultsItemBank.itemCount (), enable);
+        Util.setIsSubscribed (this.resultsItemBank.scrollPosition (), enable);
 
         for (final IBrowserColumnItem item: this.resultData)
             item.enableObservers (enable);
@@ -305,6 +318,27 @@ public class BrowserImpl extends AbstractBrowser
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected boolean selectResultAt (final int position)
+    {
+        if (position < 0)
+            return false;
+
+        final int scrollPosition = this.resultsItemBank.scrollPosition ().get ();
+        if (position >= scrollPosition && position < scrollPosition + this.numResults)
+        {
+            this.resultsItemBank.getItemAt (position - scrollPosition).isSelected ().set (true);
+            return true;
+        }
+
+        // Select the result when the DAW has scrolled to it
+        this.pendingResult = position;
+        this.resultsItemBank.scrollPosition ().set (position);
+        return true;
+    }
+
+
     /**
      * Select the previous result page.
      */
@@ -336,7 +370,60 @@ public class BrowserImpl extends AbstractBrowser
     {
         final IBrowserColumnItem [] items = new IBrowserColumnItem [count];
         for (int i = 0; i < count; i++)
-            items[i] = new BrowserColumnItemImpl (this.resultsItemBank.getItemAt (i), i);
+        {
+            final BrowserResultsItem item = this.resultsItemBank.getItemAt (i);
+            items[i] = new BrowserColumnItemImpl (item, i);
+            item.name ().addValueObserver (name -> this.scheduleIndexing ());
+        }
         return items;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void clearResultIndex ()
+    {
+        super.clearResultIndex ();
+
+        // The names of the current page might not change, therefore they would not be indexed
+        this.scheduleIndexing ();
+    }
+
+
+    /**
+     * Add the names of the current result page to the index. The observers of the scroll position
+     * and of the names are called in no fixed order and unchanged names are not reported at all.
+     * Therefore, the page is indexed when no further updates have arrived for some time, which
+     * ensures that the position and the names belong to the same page.
+     */
+    private void scheduleIndexing ()
+    {
+        this.host.getTimerService ().schedule (this.resultIndex, this::indexResultPage, INDEX_DELAY);
+    }
+
+
+    private void indexResultPage ()
+    {
+        if (!this.browser.exists ().get ())
+            return;
+
+        final int scrollPosition = this.resultsItemBank.scrollPosition ().get ();
+        for (int i = 0; i < this.numResults; i++)
+            this.resultIndex.put (scrollPosition + i, this.resultsItemBank.getItemAt (i).name ().get ());
+    }
+
+
+    /**
+     * Index the names of the new page and select a result which was waiting for the scrolling.
+     *
+     * @param scrollPosition The new scroll position of the results
+     */
+    private void handleResultScrollPosition (final int scrollPosition)
+    {
+        this.scheduleIndexing ();
+
+        if (this.pendingResult >= scrollPosition && this.pendingResult < scrollPosition + this.numResults)
+            this.resultsItemBank.getItemAt (this.pendingResult - scrollPosition).isSelected ().set (true);
+        this.pendingResult = -1;
+    }
 }
\ No newline at end of file
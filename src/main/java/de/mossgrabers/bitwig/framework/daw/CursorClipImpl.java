@@ -144,7 +144,7 @@ public class CursorClipImpl implements INoteClip
     public ColorEx getColor ()
     {
         final SettableColorValue color = this.getClip ().color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return ColorEx.intern (color.red (), color.green (), color.blue ());
     }
 
 
@@ -1125,8 +1125,8 @@ public class CursorClipImpl implements INoteClip
         this.stopEdit ();
 
         this.editSteps.addAll (editSteps);
-        for (final NotePosition step: this.editSteps)
-            this.delayedUpdate (step);
+        this.updateEditSteps ();
+        this.host.getTimerService ().schedulePeriodic (this.editSteps, this::updateEditSteps, 100);
     }
 
 
@@ -1134,6 +1134,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void stopEdit ()
     {
+        this.host.getTimerService ().cancel (this.editSteps);
         for (final NotePosition editStep: this.editSteps)
             this.sendClipData (editStep);
         this.editSteps.clear ();
@@ -1192,12 +1193,10 @@ public class CursorClipImpl implements INoteClip
     }
 
 
-    private void delayedUpdate (final NotePosition editStep)
+    private void updateEditSteps ()
     {
-        if (this.editSteps.isEmpty ())
-            return;
-        this.sendClipData (editStep);
-        this.host.scheduleTask ( () -> this.delayedUpdate (new NotePosition (editStep.getChannel (), editStep.getStep (), editStep.getNote ())), 100);
+        for (final NotePosition editStep: this.editSteps)
+            this.sendClipData (editStep);
     }
 
 
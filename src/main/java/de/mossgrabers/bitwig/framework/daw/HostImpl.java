@@ -27,6 +27,7 @@ import de.mossgrabers.framework.parameter.NoteAttribute;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
 import de.mossgrabers.framework.utils.ConsoleLogger;
+import de.mossgrabers.framework.utils.TimerService;
 
 import com.bitwig.extension.api.graphics.BitmapFormat;
 import com.bitwig.extension.api.opensoundcontrol.OscAddressSpace;
@@ -87,6 +88,7 @@ public class HostImpl implements IHost
 
     private final ControllerHost   host;
     private final List<IUsbDevice> usbDevices = new ArrayList<> ();
+    private final TimerService     timerService;
 
 
     /**
@@ -97,6 +99,7 @@ public class HostImpl implements IHost
     public HostImpl (final ControllerHost host)
     {
         this.host = host;
+        this.timerService = new TimerService (this);
 
         readDeviceFiles ();
     }
@@ -143,6 +146,14 @@ public class HostImpl implements IHost
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public TimerService getTimerService ()
+    {
+        return this.timerService;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void error (final String text)
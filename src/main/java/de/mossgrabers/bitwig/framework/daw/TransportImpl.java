@@ -8,6 +8,7 @@ import java.text.DecimalFormat;
 
 import com.bitwig.extension.controller.api.BeatTimeFormatter;
 import com.bitwig.extension.controller.api.ControllerHost;
+import com.bitwig.extension.controller.api.SettableBeatTimeValue;
 import com.bitwig.extension.controller.api.SettableEnumValue;
 import com.bitwig.extension.controller.api.TimeSignatureValue;
 import com.bitwig.extension.controller.api.Transport;
@@ -63,6 +64,20 @@ public class TransportImpl implements ITransport
     private final IParameter               crossfadeParameter;
     private final IParameter               metronomeVolumeParameter;
 
+    // The formatted texts are requested on each flush by all surfaces, therefore they are only
+    // formatted again if the values from which they are created have changed
+    private double                         positionTextBeats       = Double.NaN;
+    private double                         positionTextTempo       = Double.NaN;
+    private String                         positionText;
+    private double                         beatTextBeats           = Double.NaN;
+    private int                            beatTextNumerator       = -1;
+    private int                            beatTextDenominator     = -1;
+    private String                         beatText;
+    private double                         tempoTextTempo          = Double.NaN;
+    private String                         tempoText;
+    private double                         tempoNoFractionTempo    = Double.NaN;
+    private String                         tempoNoFractionText;
+
 
     /**
      * Constructor
@@ -469,7 +484,15 @@ public class TransportImpl implements ITransport
     @Override
     public String getPositionText ()
     {
-        return this.transport.getPosition ().getFormatted ( (beatTime, isAbsolute, timeSignatureNumerator, timeSignatureDenominator, timeSignatureTicks) -> StringUtils.formatTimeLong (this.getTempo (), beatTime, true));
+        final double beats = this.transport.getPosition ().get ();
+        final double tempo = this.getTempo ();
+        if (beats != this.positionTextBeats || tempo != this.positionTextTempo)
+        {
+            this.positionText = StringUtils.formatTimeLong (tempo, beats, true);
+            this.positionTextBeats = beats;
+            this.positionTextTempo = tempo;
+        }
+        return this.positionText;
     }
 
 
@@ -477,7 +500,19 @@ public class TransportImpl implements ITransport
     @Override
     public String getBeatText ()
     {
-        return this.transport.getPosition ().getFormatted (BEAT_POSITION_FORMATTER);
+        final SettableBeatTimeValue position = this.transport.getPosition ();
+        final double beats = position.get ();
+        final TimeSignatureValue ts = this.transport.timeSignature ();
+        final int numerator = ts.numerator ().get ();
+        final int denominator = ts.denominator ().get ();
+        if (beats != this.beatTextBeats || numerator != this.beatTextNumerator || denominator != this.beatTextDenominator)
+        {
+            this.beatText = position.getFormatted (BEAT_POSITION_FORMATTER);
+            this.beatTextBeats = beats;
+            this.beatTextNumerator = numerator;
+            this.beatTextDenominator = denominator;
+        }
+        return this.beatText;
     }
 
 
@@ -690,7 +725,12 @@ public class TransportImpl implements ITransport
     @Override
     public String formatTempo (final double tempo)
     {
-        return new DecimalFormat ("#.00").format (tempo);
+        if (tempo != this.tempoTextTempo)
+        {
+            this.tempoText = new DecimalFormat ("#.00").format (tempo);
+            this.tempoTextTempo = tempo;
+        }
+        return this.tempoText;
     }
 
 
@@ -698,7 +738,12 @@ public class TransportImpl implements ITransport
     @Override
     public String formatTempoNoFraction (final double tempo)
     {
-        return new DecimalFormat ("###").format (tempo);
+        if (tempo != this.tempoNoFractionTempo)
+        {
+            this.tempoNoFractionText = new DecimalFormat ("###").format (tempo);
+            this.tempoNoFractionTempo = tempo;
+        }
+        return this.tempoNoFractionText;
     }
 
 
@@ -8,7 +8,9 @@ import java.util.UUID;
 
 import com.bitwig.extension.controller.api.Channel;
 import com.bitwig.extension.controller.api.InsertionPoint;
-import com.bitwig.extension.controller.api.SettableColorValue;
+import com.bitwig.extension.controller.api.Parameter;
+import com.bitwig.extension.controller.api.Send;
+import com.bitwig.extension.controller.api.SendBank;
 
 import de.mossgrabers.bitwig.framework.daw.DeviceMetadataImpl;
 import de.mossgrabers.bitwig.framework.daw.data.bank.AbstractChannelBankImpl;
@@ -22,6 +24,8 @@ import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.data.empty.EmptyParameter;
 import de.mossgrabers.framework.daw.data.empty.EmptySendBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.observer.IChangeObserver;
+import de.mossgrabers.framework.observer.IObserverManagement;
 import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.parameter.IParameter;
 
@@ -44,12 +48,15 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     private final IParameter                    muteParameter;
     private final IParameter                    soloParameter;
     private final ISendBank                     sendBank;
+    private final IObserverManagement           vuMeterObservers = this::enableVuMeters;
 
     private int                                 vuLeft;
     private int                                 vuRight;
     private int                                 vuPeakLeft;
     private int                                 vuPeakRight;
     private int                                 vuPeakLastVolume;
+    private boolean                             areVuMetersEnabled = true;
+    private ColorEx                             color              = ColorEx.BLACK;
 
 
     /**
@@ -87,6 +94,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         channel.isActivated ().markInterested ();
         channel.isMutedBySolo ().markInterested ();
         channel.color ().markInterested ();
+        channel.color ().addValueObserver ( (red, green, blue) -> this.color = ColorEx.intern (red, green, blue));
 
         this.volumeParameter = new ParameterImpl (valueChanger, channel.volume (), index);
         this.panParameter = new ParameterImpl (valueChanger, channel.pan (), index);
@@ -403,8 +411,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public ColorEx getColor ()
     {
-        final SettableColorValue color = this.deviceChain.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -416,6 +423,14 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public IObserverManagement getVuMeterObservers ()
+    {
+        return this.vuMeterObservers;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getVu ()
@@ -544,7 +559,61 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public void addColorObserver (final IValueObserver<ColorEx> observer)
     {
-        this.deviceChain.color ().addValueObserver ( (red, green, blue) -> observer.update (new ColorEx (red, green, blue)));
+        this.deviceChain.color ().addValueObserver ( (red, green, blue) -> observer.update (ColorEx.intern (red, green, blue)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final IChangeObserver observer)
+    {
+        final Channel channel = this.deviceChain;
+        if (channel == null)
+            return;
+
+        channel.exists ().addValueObserver (value -> observer.changed ());
+        channel.name ().addValueObserver (value -> observer.changed ());
+        channel.isActivated ().addValueObserver (value -> observer.changed ());
+        channel.isMutedBySolo ().addValueObserver (value -> observer.changed ());
+        channel.color ().addValueObserver ( (red, green, blue) -> observer.changed ());
+        addParameterChangeObserver (channel.volume (), observer);
+        addParameterChangeObserver (channel.pan (), observer);
+        channel.mute ().addValueObserver (value -> observer.changed ());
+        channel.solo ().addValueObserver (value -> observer.changed ());
+
+        final int numSends = this.sendBank.getPageSize ();
+        if (numSends == 0)
+            return;
+        final SendBank channelSendBank = channel.sendBank ();
+        for (int i = 0; i < numSends; i++)
+        {
+            final Send send = channelSendBank.getItemAt (i);
+            addParameterChangeObserver (send, observer);
+            send.isEnabled ().addValueObserver (value -> observer.changed ());
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addVuMeterChangeObserver (final IChangeObserver observer)
+    {
+        final Channel channel = this.deviceChain;
+        if (channel == null)
+            return;
+
+        channel.addVuMeterObserver (MAX_RESOLUTION, 0, true, value -> this.handleVUChange (observer));
+        channel.addVuMeterObserver (MAX_RESOLUTION, 1, true, value -> this.handleVUChange (observer));
+    }
+
+
+    private static void addParameterChangeObserver (final Parameter parameter, final IChangeObserver observer)
+    {
+        parameter.exists ().addValueObserver (value -> observer.changed ());
+        parameter.name ().addValueObserver (value -> observer.changed ());
+        parameter.value ().addValueObserver (value -> observer.changed ());
+        parameter.displayedValue ().addValueObserver (value -> observer.changed ());
+        parameter.modulatedValue ().addValueObserver (value -> observer.changed ());
     }
 
 
@@ -583,8 +652,35 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     }
 
 
+    /**
+     * The VU meters cannot be unsubscribed in Bitwig. Therefore, their updates are ignored while
+     * disabled.
+     *
+     * @param enable True to enable
+     */
+    private void enableVuMeters (final boolean enable)
+    {
+        this.areVuMetersEnabled = enable;
+        if (enable)
+            return;
+        this.vuLeft = 0;
+        this.vuRight = 0;
+        this.vuPeakLeft = 0;
+        this.vuPeakRight = 0;
+    }
+
+
+    private void handleVUChange (final IChangeObserver observer)
+    {
+        if (this.areVuMetersEnabled)
+            observer.changed ();
+    }
+
+
     private void handleVULeftMeter (final int value)
     {
+        if (!this.areVuMetersEnabled)
+            return;
         // Limit value to this.configuration.getMaxParameterValue () due to
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
         this.vuLeft = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
@@ -593,6 +689,8 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
 
     private void handleVURightMeter (final int value)
     {
+        if (!this.areVuMetersEnabled)
+            return;
         // Limit value to this.configuration.getMaxParameterValue () due to
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
         this.vuRight = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
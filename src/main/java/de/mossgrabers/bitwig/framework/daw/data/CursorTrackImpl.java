@@ -13,6 +13,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.ICursorTrack;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
+import de.mossgrabers.framework.observer.IChangeObserver;
 
 import com.bitwig.extension.controller.api.CursorRemoteControlsPage;
 import com.bitwig.extension.controller.api.CursorTrack;
@@ -87,6 +88,16 @@ public class CursorTrackImpl extends TrackImpl implements ICursorTrack
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final IChangeObserver observer)
+    {
+        super.addChangeObserver (observer);
+
+        this.isPinnedAttr.addValueObserver (value -> observer.changed ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getIndex ()
@@ -94,7 +94,7 @@ public class MarkerImpl extends AbstractItemImpl implements IMarker
     public ColorEx getColor ()
     {
         final ColorValue color = this.marker.getColor ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return ColorEx.intern (color.red (), color.green (), color.blue ());
     }
 
 
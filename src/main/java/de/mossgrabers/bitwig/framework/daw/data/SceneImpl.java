@@ -5,7 +5,6 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import com.bitwig.extension.controller.api.Scene;
-import com.bitwig.extension.controller.api.SettableColorValue;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
@@ -21,6 +20,7 @@ import de.mossgrabers.framework.observer.IValueObserver;
 public class SceneImpl extends AbstractItemImpl implements IScene
 {
     private final Scene scene;
+    private ColorEx     color = ColorEx.BLACK;
 
 
     /**
@@ -39,6 +39,7 @@ public class SceneImpl extends AbstractItemImpl implements IScene
         scene.name ().markInterested ();
         scene.sceneIndex ().markInterested ();
         scene.color ().markInterested ();
+        scene.color ().addValueObserver ( (red, green, blue) -> this.color = ColorEx.intern (red, green, blue));
         scene.addIsSelectedInEditorObserver (this::setSelected);
     }
 
@@ -106,8 +107,7 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     @Override
     public ColorEx getColor ()
     {
-        final SettableColorValue color = this.scene.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -77,7 +77,7 @@ public class SendImpl extends ParameterImpl implements ISend
     public ColorEx getColor ()
     {
         final SettableColorValue color = this.send.sendChannelColor ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return ColorEx.intern (color.red (), color.green (), color.blue ());
     }
 
 
@@ -8,10 +8,10 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.IChangeObserver;
 import de.mossgrabers.framework.observer.IValueObserver;
 
 import com.bitwig.extension.controller.api.ClipLauncherSlot;
-import com.bitwig.extension.controller.api.ColorValue;
 
 
 /**
@@ -23,6 +23,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
 {
     private final ITrack           track;
     private final ClipLauncherSlot slot;
+    private ColorEx                color = ColorEx.BLACK;
 
 
     /**
@@ -44,6 +45,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         slot.name ().markInterested ();
         slot.hasContent ().markInterested ();
         slot.color ().markInterested ();
+        slot.color ().addValueObserver ( (red, green, blue) -> this.color = ColorEx.intern (red, green, blue));
 
         // States
         slot.isPlaying ().markInterested ();
@@ -177,8 +179,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         if (this.track.isGroup ())
             return this.track.getColor ();
 
-        final ColorValue color = this.slot.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -190,6 +191,23 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final IChangeObserver observer)
+    {
+        this.slot.exists ().addValueObserver (value -> observer.changed ());
+        this.slot.name ().addValueObserver (value -> observer.changed ());
+        this.slot.hasContent ().addValueObserver (value -> observer.changed ());
+        this.slot.color ().addValueObserver ( (red, green, blue) -> observer.changed ());
+        this.slot.isPlaying ().addValueObserver (value -> observer.changed ());
+        this.slot.isPlaybackQueued ().addValueObserver (value -> observer.changed ());
+        this.slot.isRecording ().addValueObserver (value -> observer.changed ());
+        this.slot.isRecordingQueued ().addValueObserver (value -> observer.changed ());
+        this.slot.isStopQueued ().addValueObserver (value -> observer.changed ());
+        this.slot.isSelected ().addValueObserver (value -> observer.changed ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void select ()
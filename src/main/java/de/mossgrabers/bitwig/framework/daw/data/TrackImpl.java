@@ -14,6 +14,7 @@ import de.mossgrabers.framework.daw.constants.RecordQuantization;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.observer.IChangeObserver;
 import de.mossgrabers.framework.observer.INoteObserver;
 import de.mossgrabers.framework.parameter.IParameter;
 
@@ -137,6 +138,24 @@ public class TrackImpl extends ChannelImpl implements ITrack
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final IChangeObserver observer)
+    {
+        super.addChangeObserver (observer);
+
+        this.track.trackType ().addValueObserver (value -> observer.changed ());
+        this.track.position ().addValueObserver (value -> observer.changed ());
+        this.track.isGroup ().addValueObserver (value -> observer.changed ());
+        this.track.arm ().addValueObserver (value -> observer.changed ());
+        this.track.isMonitoring ().addValueObserver (value -> observer.changed ());
+        this.track.monitorMode ().addValueObserver (value -> observer.changed ());
+        this.track.crossFadeMode ().addValueObserver (value -> observer.changed ());
+        this.track.canHoldNoteData ().addValueObserver (value -> observer.changed ());
+        this.track.canHoldAudioData ().addValueObserver (value -> observer.changed ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IParameter getCrossfadeParameter ()
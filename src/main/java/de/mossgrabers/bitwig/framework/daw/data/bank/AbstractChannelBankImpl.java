@@ -10,6 +10,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.bank.IChannelBank;
 import de.mossgrabers.framework.daw.data.bank.ISceneBank;
+import de.mossgrabers.framework.observer.IObserverManagement;
 
 import com.bitwig.extension.controller.api.Bank;
 
@@ -26,10 +27,12 @@ import java.util.Optional;
  */
 public abstract class AbstractChannelBankImpl<B extends Bank<?>, T extends IChannel> extends AbstractItemBankImpl<B, T> implements IChannelBank<T>
 {
-    protected final int     numScenes;
-    protected final int     numSends;
+    protected final int               numScenes;
+    protected final int               numSends;
 
-    protected SceneBankImpl sceneBank;
+    protected SceneBankImpl           sceneBank;
+
+    private final IObserverManagement vuMeterObservers = this::enableVuMeters;
 
 
     /**
@@ -48,6 +51,8 @@ public abstract class AbstractChannelBankImpl<B extends Bank<?>, T extends IChan
 
         this.numScenes = numScenes;
         this.numSends = numSends;
+
+        this.indexExistence ();
     }
 
 
@@ -68,4 +73,19 @@ public abstract class AbstractChannelBankImpl<B extends Bank<?>, T extends IChan
     {
         return this.sceneBank;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IObserverManagement getVuMeterObservers ()
+    {
+        return this.vuMeterObservers;
+    }
+
+
+    private void enableVuMeters (final boolean enable)
+    {
+        for (final T item: this.items)
+            item.getVuMeterObservers ().enableObservers (enable);
+    }
 }
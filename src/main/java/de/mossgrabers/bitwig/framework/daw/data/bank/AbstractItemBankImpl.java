@@ -47,13 +47,33 @@ public abstract class AbstractItemBankImpl<B extends Bank<?>, T extends IItem> e
         if (this.bank.isEmpty ())
             return;
 
-        bank.scrollPosition ().markInterested ();
+        bank.scrollPosition ().addValueObserver (this::handleScrollPosition);
         bank.canScrollBackwards ().markInterested ();
         bank.canScrollForwards ().markInterested ();
         bank.itemCount ().markInterested ();
     }
 
 
+    /**
+     * Keep an index of the existing items, which is updated from the exists observers of the items
+     * of the Bitwig bank. Must only be called if doesExist of the items returns the exists value of
+     * the Bitwig item at the same index.
+     */
+    protected void indexExistence ()
+    {
+        if (this.bank.isEmpty ())
+            return;
+
+        this.enableExistenceIndex ();
+        final B b = this.bank.get ();
+        for (int i = 0; i < this.getPageSize (); i++)
+        {
+            final int index = i;
+            b.getItemAt (i).exists ().addValueObserver (exists -> this.setItemExists (index, exists));
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void enableObservers (final boolean enable)
@@ -191,8 +211,9 @@ public abstract class AbstractItemBankImpl<B extends Bank<?>, T extends IItem> e
     {
         if (!this.canScrollPageBackwards ())
             return;
+        final int position = Math.max (0, this.getRequestedScrollPosition () - this.getPageSize ());
         this.scrollPageBackwards ();
-        this.host.scheduleTask ( () -> this.getItem (0).select (), 75);
+        this.executeAfterScroll (position, () -> this.getItem (0).select ());
     }
 
 
@@ -202,8 +223,9 @@ public abstract class AbstractItemBankImpl<B extends Bank<?>, T extends IItem> e
     {
         if (!this.canScrollPageForwards ())
             return;
+        final int position = this.getRequestedScrollPosition () + this.getPageSize ();
         this.scrollPageForwards ();
-        this.host.scheduleTask ( () -> this.getItem (0).select (), 75);
+        this.executeAfterScroll (position, () -> this.getItem (0).select ());
     }
 
 
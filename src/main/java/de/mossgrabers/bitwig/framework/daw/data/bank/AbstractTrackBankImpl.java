@@ -71,6 +71,7 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
             this.items.add (new TrackImpl (host, valueChanger, application, (CursorTrack) cursorTrack.getTrack (), numScenes > 0 ? bank.sceneBank () : null, rootGroup, trackBank.getItemAt (i), i, this.numSends, this.numScenes));
 
         // Note: cursorIndex is defined for all banks but currently only works for track banks
+        this.enableSelectionIndex ();
         trackBank.cursorIndex ().addValueObserver (this::handleBankSelection);
     }
 
@@ -146,6 +147,7 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
         {
             final boolean isSelected = index == i;
             final ITrack item = this.getItem (i);
+            this.setItemSelected (i, isSelected);
             if (item.isSelected () != isSelected)
             {
                 item.setSelected (isSelected);
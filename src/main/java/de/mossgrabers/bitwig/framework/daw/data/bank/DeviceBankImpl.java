@@ -47,6 +47,7 @@ public class DeviceBankImpl extends AbstractItemBankImpl<DeviceBank, IDevice> im
         final DeviceBank db = this.bank.get ();
         for (int i = 0; i < this.getPageSize (); i++)
             this.items.add (new DeviceImpl (db.getItemAt (i), i));
+        this.indexExistence ();
     }
 
 
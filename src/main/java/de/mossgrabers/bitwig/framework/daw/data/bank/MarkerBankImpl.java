@@ -49,6 +49,7 @@ public class MarkerBankImpl extends AbstractItemBankImpl<CueMarkerBank, IMarker>
         final CueMarkerBank cueMarkerBank = this.bank.get ();
         for (int i = 0; i < this.getPageSize (); i++)
             this.items.add (new MarkerImpl (cueMarkerBank.getItemAt (i), i, this.transport));
+        this.indexExistence ();
 
         // We need a large bank to emulate previous/next marker selection
         this.largeCueMarkerBank = bwArranger.createCueMarkerBank (NUM_LARGE_MARKER_BANK);
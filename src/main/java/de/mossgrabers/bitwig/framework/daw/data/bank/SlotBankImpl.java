@@ -11,6 +11,7 @@ import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 
+import com.bitwig.extension.controller.api.ClipLauncherSlot;
 import com.bitwig.extension.controller.api.ClipLauncherSlotBank;
 import com.bitwig.extension.controller.api.SceneBank;
 
@@ -49,8 +50,15 @@ public class SlotBankImpl extends AbstractItemBankImpl<ClipLauncherSlotBank, ISl
             return;
 
         final ClipLauncherSlotBank clsb = this.bank.get ();
+        this.enableSelectionIndex ();
         for (int i = 0; i < this.getPageSize (); i++)
-            this.items.add (new SlotImpl (this.track, clsb.getItemAt (i), i));
+        {
+            final ClipLauncherSlot slot = clsb.getItemAt (i);
+            this.items.add (new SlotImpl (this.track, slot, i));
+            final int index = i;
+            slot.isSelected ().addValueObserver (isSelected -> this.setItemSelected (index, isSelected));
+        }
+        this.indexExistence ();
     }
 
 
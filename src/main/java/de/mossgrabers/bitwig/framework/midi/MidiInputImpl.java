@@ -17,6 +17,8 @@ import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.MidiRecorder;
+import de.mossgrabers.framework.daw.midi.MidiRecording;
 import de.mossgrabers.framework.daw.midi.MidiShortCallback;
 import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
 
@@ -40,8 +42,12 @@ import com.bitwig.extension.controller.api.RelativeHardwareValueMatcher;
  */
 public class MidiInputImpl implements IMidiInput
 {
-    private final MidiIn  port;
-    private NoteInputImpl defaultNoteInput;
+    private final MidiIn      port;
+    private NoteInputImpl     defaultNoteInput;
+    private MidiShortCallback midiCallback;
+    private MidiSysExCallback sysexCallback;
+    private MidiRecorder      recorder;
+    private String            recorderName;
 
 
     /**
@@ -77,7 +83,8 @@ public class MidiInputImpl implements IMidiInput
     @Override
     public void setMidiCallback (final MidiShortCallback callback)
     {
-        this.port.setMidiCallback (callback::handleMidi);
+        this.midiCallback = callback;
+        this.port.setMidiCallback (this::handleMidi);
     }
 
 
@@ -85,7 +92,51 @@ public class MidiInputImpl implements IMidiInput
     @Override
     public void setSysexCallback (final MidiSysExCallback callback)
     {
-        this.port.setSysexCallback (callback::handleMidi);
+        this.sysexCallback = callback;
+        this.port.setSysexCallback (this::handleSysex);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setRecorder (final MidiRecorder recorder, final String name)
+    {
+        this.recorder = recorder;
+        this.recorderName = name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void receiveMidi (final int status, final int data1, final int data2)
+    {
+        if (this.midiCallback != null)
+            this.midiCallback.handleMidi (status, data1, data2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void receiveSysex (final String data)
+    {
+        if (this.sysexCallback != null)
+            this.sysexCallback.handleMidi (data);
+    }
+
+
+    private void handleMidi (final int status, final int data1, final int data2)
+    {
+        if (this.recorder != null)
+            this.recorder.recordInput (this.recorderName, MidiRecording.format (status, data1, data2));
+        this.receiveMidi (status, data1, data2);
+    }
+
+
+    private void handleSysex (final String data)
+    {
+        if (this.recorder != null)
+            this.recorder.recordInput (this.recorderName, MidiRecording.format (data));
+        this.receiveSysex (data);
     }
 
 
@@ -47,6 +47,7 @@ class MidiOutputImpl extends AbstractMidiOutput
     @Override
     public void sendSysex (final byte [] data)
     {
+        this.countSysex (data);
         this.port.sendSysex (data);
     }
 
@@ -55,6 +56,7 @@ class MidiOutputImpl extends AbstractMidiOutput
     @Override
     public void sendSysex (final String data)
     {
+        this.countSysex (data);
         this.port.sendSysex (data);
     }
 
@@ -63,6 +65,7 @@ class MidiOutputImpl extends AbstractMidiOutput
     @Override
     protected void sendMidiShort (final int status, final int data1, final int data2)
     {
+        this.countShortMessage (status, data1, data2);
         this.port.sendMidi (status, data1, data2);
     }
 }
\ No newline at end of file
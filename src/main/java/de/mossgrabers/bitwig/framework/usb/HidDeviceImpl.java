@@ -5,6 +5,8 @@
 package de.mossgrabers.bitwig.framework.usb;
 
 import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.metrics.Counter;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
 import de.mossgrabers.framework.usb.IHidCallback;
 import de.mossgrabers.framework.usb.IHidDevice;
 import de.mossgrabers.framework.usb.UsbException;
@@ -15,18 +17,39 @@ import purejavahidapi.PureJavaHidApi;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 
 /**
- * Implementation for a HID device.
+ * Implementation for a HID device. Output reports are copied into re-used buffers and sent from a
+ * separate thread. Reports sent with a coalesce key which are superseded before they could be sent
+ * are dropped.
  *
  * @author Jürgen Moßgraber
  */
 public class HidDeviceImpl implements IHidDevice
 {
-    private HidDevice hidDevice;
-    private boolean   isOpen;
+    private static final int                 MAX_PENDING_REPORTS = 64;
+
+    private final Map<Integer, OutputReport> outputReports       = new HashMap<> ();
+    private final Deque<OutputReport>        pendingReports      = new ArrayDeque<> ();
+    private final Deque<OutputReport>        freeReports         = new ArrayDeque<> ();
+    private final ExecutorService            sendExecutor        = Executors.newSingleThreadExecutor (HidDeviceImpl::createSendThread);
+    private final boolean                    addReportID         = OperatingSystem.isMacOS ();
+    private final Counter                    reportCounter;
+    private final Counter                    byteCounter;
+    private final Counter                    droppedCounter;
+    private final Counter                    failedCounter;
+
+    private HidDevice                        hidDevice;
+    private volatile boolean                 isOpen;
 
 
     /**
@@ -38,6 +61,13 @@ public class HidDeviceImpl implements IHidDevice
      */
     public HidDeviceImpl (final short vendorID, final short productID) throws UsbException
     {
+        final MetricsRegistry metrics = MetricsRegistry.getInstance ();
+        final String metricsName = metrics.getInstanceName (String.format ("HID %04X:%04X", Short.valueOf (vendorID), Short.valueOf (productID)));
+        this.reportCounter = metrics.getCounter (metricsName + " output reports");
+        this.byteCounter = metrics.getCounter (metricsName + " output bytes");
+        this.droppedCounter = metrics.getCounter (metricsName + " dropped output reports");
+        this.failedCounter = metrics.getCounter (metricsName + " failed output reports");
+
         final Optional<HidDeviceInfo> hidDeviceInfo = lookupDevice (vendorID, productID);
         if (hidDeviceInfo.isEmpty ())
             throw new UsbException ("Could not find HID device: Vendor ID: " + vendorID + ", Product ID: " + productID);
@@ -60,11 +90,23 @@ public class HidDeviceImpl implements IHidDevice
     @Override
     public void close ()
     {
-        if (this.isOpen)
+        // The executor must also be stopped if the device was removed
+        this.sendExecutor.shutdown ();
+        if (!this.isOpen)
+            return;
+
+        // Send the reports which are still queued
+        try
         {
-            this.isOpen = false;
-            this.hidDevice.close ();
+            this.sendExecutor.awaitTermination (1, TimeUnit.SECONDS);
         }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+
+        this.isOpen = false;
+        this.hidDevice.close ();
     }
 
 
@@ -72,23 +114,107 @@ public class HidDeviceImpl implements IHidDevice
     @Override
     public int sendOutputReport (final byte reportID, final IMemoryBlock memoryBlock)
     {
-        if (!this.isOpen)
+        return this.queueOutputReport (reportID, memoryBlock, null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int sendOutputReport (final byte reportID, final IMemoryBlock memoryBlock, final int coalesceKey)
+    {
+        return this.queueOutputReport (reportID, memoryBlock, Integer.valueOf ((reportID & 0xFF) << 24 | coalesceKey & 0xFFFFFF));
+    }
+
+
+    /**
+     * Copy the content of the memory block into a pending buffer and queue it for sending.
+     *
+     * @param reportID The report ID
+     * @param memoryBlock The memory block with the data to send
+     * @param key The key of the report which is replaced while it is still queued, null if the
+     *            report must always be sent
+     * @return The number of bytes scheduled for transmission or -1 if the report was dropped
+     */
+    private int queueOutputReport (final byte reportID, final IMemoryBlock memoryBlock, final Integer key)
+    {
+        if (!this.isOpen || this.sendExecutor.isShutdown ())
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
 
-        // purehid documentation says otherwise but MAC also needs the report ID in
-        // data[0], therefore add it
-        byte [] d = data;
-        int l = data.length;
-        if (OperatingSystem.isMacOS ())
+        final ByteBuffer buffer = memoryBlock.createByteBuffer ();
+        final int size = buffer.capacity ();
+
+        synchronized (this.pendingReports)
+        {
+            OutputReport report = key == null ? null : this.outputReports.computeIfAbsent (key, k -> new OutputReport (reportID, true));
+            final boolean isQueued = report != null && report.isQueued;
+            if (!isQueued && this.pendingReports.size () >= MAX_PENDING_REPORTS)
+            {
+                this.droppedCounter.increment ();
+                return -1;
+            }
+
+            if (report == null)
+            {
+                report = this.freeReports.poll ();
+                if (report == null)
+                    report = new OutputReport (reportID, false);
+                report.reportID = reportID;
+            }
+
+            // purehid documentation says otherwise but MAC also needs the report ID in
+            // data[0], therefore add it
+            final int offset = this.addReportID ? 1 : 0;
+            final byte [] data = report.getPendingBuffer (size + offset);
+            data[0] = reportID;
+            buffer.rewind ();
+            buffer.get (data, offset, size);
+            report.pendingLength = size + offset;
+
+            // If the report is still queued it is simply replaced by the new content
+            if (!isQueued)
+            {
+                report.isQueued = true;
+                this.pendingReports.add (report);
+                this.sendExecutor.execute (this::sendNextReport);
+            }
+        }
+        return size;
+    }
+
+
+    /**
+     * Sends the oldest queued output report. Called on the send thread.
+     */
+    private void sendNextReport ()
+    {
+        final OutputReport report;
+        final int length;
+        synchronized (this.pendingReports)
         {
-            l++;
-            d = new byte [l];
-            d[0] = reportID;
-            System.arraycopy (data, 0, d, 1, data.length);
+            report = this.pendingReports.poll ();
+            if (report == null)
+                return;
+            report.isQueued = false;
+            length = report.swap ();
         }
 
-        return this.hidDevice.setOutputReport (reportID, d, d.length);
+        final int sent = this.isOpen ? this.hidDevice.setOutputReport (report.reportID, report.sendBuffer, length) : -1;
+
+        if (!report.isCoalescing)
+        {
+            synchronized (this.pendingReports)
+            {
+                this.freeReports.add (report);
+            }
+        }
+
+        if (sent < 0)
+        {
+            this.failedCounter.increment ();
+            return;
+        }
+        this.reportCounter.increment ();
+        this.byteCounter.add (sent);
     }
 
 
@@ -127,6 +253,14 @@ public class HidDeviceImpl implements IHidDevice
     }
 
 
+    private static Thread createSendThread (final Runnable runnable)
+    {
+        final Thread thread = new Thread (runnable, "HID output");
+        thread.setDaemon (true);
+        return thread;
+    }
+
+
     private static Optional<HidDeviceInfo> lookupDevice (final short vendorID, final short productID)
     {
         for (final HidDeviceInfo info: PureJavaHidApi.enumerateDevices ())
@@ -147,4 +281,62 @@ public class HidDeviceImpl implements IHidDevice
         buffer.get (data);
         return data;
     }
+
+
+    /**
+     * Double buffer for one output report. The pending buffer is filled on the controller thread
+     * and swapped with the send buffer by the send thread. Reports which are not coalescing are
+     * re-used for other reports after they were sent.
+     */
+    private static class OutputReport
+    {
+        private final boolean isCoalescing;
+        private byte          reportID;
+        private byte []       pendingBuffer = new byte [0];
+        private byte []       sendBuffer    = new byte [0];
+        private int           pendingLength;
+        private boolean       isQueued;
+
+
+        /**
+         * Constructor.
+         *
+         * @param reportID The report ID
+         * @param isCoalescing True if newer content replaces the report while it is queued
+         */
+        public OutputReport (final byte reportID, final boolean isCoalescing)
+        {
+            this.reportID = reportID;
+            this.isCoalescing = isCoalescing;
+        }
+
+
+        /**
+         * Get the pending buffer, which is only re-allocated if it is too small. The length of the
+         * valid data needs to be stored in the pending length.
+         *
+         * @param size The required size
+         * @return The buffer
+         */
+        public byte [] getPendingBuffer (final int size)
+        {
+            if (this.pendingBuffer.length < size)
+                this.pendingBuffer = new byte [size];
+            return this.pendingBuffer;
+        }
+
+
+        /**
+         * Exchange the pending and the send buffer.
+         *
+         * @return The length of the data in the send buffer
+         */
+        public int swap ()
+        {
+            final byte [] buffer = this.sendBuffer;
+            this.sendBuffer = this.pendingBuffer;
+            this.pendingBuffer = buffer;
+            return this.pendingLength;
+        }
+    }
 }
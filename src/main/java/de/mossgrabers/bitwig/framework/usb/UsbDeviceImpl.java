@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.usb;
 
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
 import de.mossgrabers.framework.usb.IHidDevice;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
@@ -28,6 +29,7 @@ public class UsbDeviceImpl implements IUsbDevice
 
     private final UsbDevice      usbDevice;
     private final IHost          host;
+    private final String         metricsName;
 
 
     /**
@@ -40,6 +42,7 @@ public class UsbDeviceImpl implements IUsbDevice
     {
         this.host = host;
         this.usbDevice = usbDevice;
+        this.metricsName = MetricsRegistry.getInstance ().getInstanceName (this.getMetricsName ());
     }
 
 
@@ -49,7 +52,7 @@ public class UsbDeviceImpl implements IUsbDevice
     {
         try
         {
-            return new UsbEndpointImpl (this.host, this.usbDevice.iface (interfaceIndex).pipe (endpointIndex));
+            return new UsbEndpointImpl (this.host, this.usbDevice.iface (interfaceIndex).pipe (endpointIndex), this.metricsName + " " + interfaceIndex + ":" + endpointIndex);
         }
         catch (final RuntimeException ex)
         {
@@ -80,4 +83,18 @@ public class UsbDeviceImpl implements IUsbDevice
         final short productID = Short.parseShort (matcher.group (2), 16);
         return Optional.of (new HidDeviceImpl (vendorID, productID));
     }
+
+
+    /**
+     * Get the name to use for the metrics of the device.
+     *
+     * @return The name, e.g. 'USB 17CC:1610'
+     */
+    private String getMetricsName ()
+    {
+        final Matcher matcher = PATTERN.matcher (this.usbDevice.deviceMatcher ().getExpression ());
+        if (!matcher.matches ())
+            return "USB";
+        return "USB " + matcher.group (1).toUpperCase () + ":" + matcher.group (2).toUpperCase ();
+    }
 }
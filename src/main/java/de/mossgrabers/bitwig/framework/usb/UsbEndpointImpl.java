@@ -7,9 +7,12 @@ package de.mossgrabers.bitwig.framework.usb;
 import de.mossgrabers.bitwig.framework.daw.MemoryBlockImpl;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.metrics.Counter;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
 import de.mossgrabers.framework.usb.IUsbCallback;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 
+import com.bitwig.extension.controller.api.MemoryBlock;
 import com.bitwig.extension.controller.api.UsbInputPipe;
 import com.bitwig.extension.controller.api.UsbOutputPipe;
 import com.bitwig.extension.controller.api.UsbPipe;
@@ -25,6 +28,8 @@ public class UsbEndpointImpl implements IUsbEndpoint
 {
     private final IHost   host;
     private final UsbPipe endpoint;
+    private final Counter transferCounter;
+    private final Counter byteCounter;
 
 
     /**
@@ -32,11 +37,16 @@ public class UsbEndpointImpl implements IUsbEndpoint
      *
      * @param host The host for logging
      * @param pipe The Bitwig pipe (aka endpoint)
+     * @param metricsName The prefix for the names of the metrics of the end-point
      */
-    public UsbEndpointImpl (final IHost host, final UsbPipe pipe)
+    public UsbEndpointImpl (final IHost host, final UsbPipe pipe, final String metricsName)
     {
         this.host = host;
         this.endpoint = pipe;
+
+        final MetricsRegistry metrics = MetricsRegistry.getInstance ();
+        this.transferCounter = metrics.getCounter (metricsName + " bulk transfers");
+        this.byteCounter = metrics.getCounter (metricsName + " bulk bytes");
     }
 
 
@@ -49,7 +59,10 @@ public class UsbEndpointImpl implements IUsbEndpoint
 
         try
         {
-            ((UsbOutputPipe) this.endpoint).write (((MemoryBlockImpl) memoryBlock).memoryBlock (), timeout);
+            final MemoryBlock block = ((MemoryBlockImpl) memoryBlock).memoryBlock ();
+            ((UsbOutputPipe) this.endpoint).write (block, timeout);
+            this.transferCounter.increment ();
+            this.byteCounter.add (block.size ());
         }
         catch (final RuntimeException ex)
         {
@@ -544,6 +544,8 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
         // Debugging
 
         this.activateDebugSettings (globalSettings);
+        this.activateMetricsSetting (globalSettings);
+        this.activateMidiRecordingSetting (globalSettings);
     }
 
 
@@ -364,35 +364,35 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         modeManager.register (Modes.FRAME, new FrameMode (surface, this.model));
 
         modeManager.register (Modes.GROOVE, new GrooveMode (surface, this.model));
-        modeManager.register (Modes.REC_ARM, new QuantizeMode (surface, this.model));
-        modeManager.register (Modes.ACCENT, new AccentMode (surface, this.model));
-
-        modeManager.register (Modes.SCALES, new ScalesMode (surface, this.model));
-        modeManager.register (Modes.SCALE_LAYOUT, new ScaleLayoutMode (surface, this.model));
-        modeManager.register (Modes.FIXED, new FixedMode (surface, this.model));
-        modeManager.register (Modes.RIBBON, new RibbonMode (surface, this.model));
-        modeManager.register (Modes.VIEW_SELECT, new NoteViewSelectMode (surface, this.model));
-
-        modeManager.register (Modes.AUTOMATION, new AutomationSelectionMode (surface, this.model));
-        modeManager.register (Modes.TRANSPORT, new MetronomeMode (surface, this.model));
-        modeManager.register (Modes.MARKERS, new MarkerMode (surface, this.model));
+        modeManager.register (Modes.REC_ARM, "Record", () -> new QuantizeMode (surface, this.model));
+        modeManager.register (Modes.ACCENT, "Accent", () -> new AccentMode (surface, this.model));
+
+        modeManager.register (Modes.SCALES, "Scale", () -> new ScalesMode (surface, this.model));
+        modeManager.register (Modes.SCALE_LAYOUT, "Scale Layout", () -> new ScaleLayoutMode (surface, this.model));
+        modeManager.register (Modes.FIXED, "Fixed", () -> new FixedMode (surface, this.model));
+        modeManager.register (Modes.RIBBON, "Ribbon", () -> new RibbonMode (surface, this.model));
+        modeManager.register (Modes.VIEW_SELECT, "Note View Select", () -> new NoteViewSelectMode (surface, this.model));
+
+        modeManager.register (Modes.AUTOMATION, "Automation", () -> new AutomationSelectionMode (surface, this.model));
+        modeManager.register (Modes.TRANSPORT, "Transport", () -> new MetronomeMode (surface, this.model));
+        modeManager.register (Modes.MARKERS, "Marker", () -> new MarkerMode (surface, this.model));
         modeManager.register (Modes.USER, new UserMode (surface, this.model));
 
         if (this.pushVersion == PushVersion.VERSION_1)
-            modeManager.register (Modes.CONFIGURATION, new ConfigurationMode (surface, this.model));
+            modeManager.register (Modes.CONFIGURATION, "Configuration", () -> new ConfigurationMode (surface, this.model));
         else
         {
-            modeManager.register (Modes.INFO, new InfoMode (surface, this.model));
-            modeManager.register (Modes.SETUP, new SetupMode (surface, this.model));
-            modeManager.register (Modes.CONFIGURATION, new MPEConfigurationMode (surface, this.model));
-            modeManager.register (Modes.AUDIO, new AudioConfigurationMode (surface, this.model));
+            modeManager.register (Modes.INFO, "Info", () -> new InfoMode (surface, this.model));
+            modeManager.register (Modes.SETUP, "Setup", () -> new SetupMode (surface, this.model));
+            modeManager.register (Modes.CONFIGURATION, "MPE Configuration", () -> new MPEConfigurationMode (surface, this.model));
+            modeManager.register (Modes.AUDIO, "Audio Configuration", () -> new AudioConfigurationMode (surface, this.model));
         }
 
         modeManager.register (Modes.SESSION, new SessionMode (surface, this.model));
-        modeManager.register (Modes.SESSION_VIEW_SELECT, new SessionViewSelectMode (surface, this.model));
+        modeManager.register (Modes.SESSION_VIEW_SELECT, "Session View", () -> new SessionViewSelectMode (surface, this.model));
 
         modeManager.register (Modes.REPEAT_NOTE, new NoteRepeatMode (surface, this.model));
-        modeManager.register (Modes.ADD_TRACK, new AddTrackMode (surface, this.model));
+        modeManager.register (Modes.ADD_TRACK, "Add Track", () -> new AddTrackMode (surface, this.model));
     }
 
 
@@ -62,6 +62,8 @@ public class GrooveMode extends BaseMode<IItem>
         }
 
         this.setParameterProvider (new FixedParameterProvider (this.params));
+
+        this.addObserverInterest (groove);
     }
 
 
@@ -71,7 +73,7 @@ public class GrooveMode extends BaseMode<IItem>
     {
         super.onActivate ();
 
-        this.setActive (true);
+        this.model.getGroove ().setIndication (true);
     }
 
 
@@ -81,7 +83,7 @@ public class GrooveMode extends BaseMode<IItem>
     {
         super.onDeactivate ();
 
-        this.setActive (false);
+        this.model.getGroove ().setIndication (false);
     }
 
 
@@ -224,12 +226,4 @@ public class GrooveMode extends BaseMode<IItem>
         }
         return AbstractFeatureGroup.BUTTON_COLOR_OFF;
     }
-
-
-    private void setActive (final boolean enable)
-    {
-        final IGroove groove = this.model.getGroove ();
-        groove.enableObservers (enable);
-        groove.setIndication (enable);
-    }
 }
\ No newline at end of file
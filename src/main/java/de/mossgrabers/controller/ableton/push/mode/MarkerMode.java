@@ -52,6 +52,7 @@ public class MarkerMode extends BaseMode<IMarker>
         super ("Marker", surface, model, model.getMarkerBank ());
 
         this.setParameterProvider (new VolumeParameterProvider (model));
+        this.addObserverInterest (model.getMarkerBank ());
     }
 
 
@@ -59,26 +59,8 @@ public class NoteRepeatMode extends BaseMode<IItem>
 
         final INoteInput defaultNoteInput = surface.getMidiInput ().getDefaultNoteInput ();
         this.noteRepeat = defaultNoteInput == null ? null : defaultNoteInput.getNoteRepeat ();
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onActivate ()
-    {
-        super.onActivate ();
-
-        this.model.getGroove ().enableObservers (true);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onDeactivate ()
-    {
-        super.onDeactivate ();
 
-        this.model.getGroove ().enableObservers (false);
+        this.addObserverInterest (this.model.getGroove ());
     }
 
 
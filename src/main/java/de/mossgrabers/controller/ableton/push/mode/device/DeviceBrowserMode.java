@@ -501,6 +501,15 @@ public class DeviceBrowserMode extends BaseMode<IItem> implements IPush3Encoder
     {
         int speed = this.model.getValueChanger ().calcSteppedKnobChange (value);
         final boolean direction = speed > 0;
+
+        // Jump to the results starting with the next/previous letter, if they are known
+        if (this.surface.isSelectPressed () && index >= 7)
+        {
+            final IBrowser browser = this.model.getBrowser ();
+            if (direction ? browser.selectNextResultLetter () : browser.selectPreviousResultLetter ())
+                return;
+        }
+
         if (this.surface.isShiftPressed ())
             speed = speed * 4;
 
@@ -78,6 +78,9 @@ public class DeviceLayerMode extends BaseMode<ILayer>
         this.cursorDevice = this.model.getCursorDevice ();
         this.cursorDevice.addHasDrumPadsObserver (hasDrumPads -> this.switchBanks (this.cursorDevice.hasDrumPads () ? this.cursorDevice.getDrumPadBank () : this.cursorDevice.getLayerBank ()));
 
+        this.addObserverInterest (this.cursorDevice.getLayerBank ().getVuMeterObservers ());
+        this.addObserverInterest (this.cursorDevice.getDrumPadBank ().getVuMeterObservers ());
+
         for (int i = 0; i < 8; i++)
             this.menu.add (new Pair<> (" ", Boolean.FALSE));
     }
@@ -66,6 +66,7 @@ public class DeviceParamsMode extends BaseMode<IParameter>
         super ("Parameters", surface, model, model.getCursorDevice ().getParameterBank ());
 
         this.setParameterProvider (new BankParameterProvider (this.model.getCursorDevice ().getParameterBank ()));
+        this.addObserverInterest (this.model.getCursorDevice ().getParameterBank ());
 
         this.setShowDevices (true);
 
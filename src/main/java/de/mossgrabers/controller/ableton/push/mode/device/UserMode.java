@@ -63,6 +63,9 @@ public class UserMode extends BaseMode<IParameter>
         this.projectParameterProvider = new BankParameterProvider (model.getProject ().getParameterBank ());
         this.trackParameterProvider = new BankParameterProvider (model.getCursorTrack ().getParameterBank ());
         this.setParameterProvider (this.projectParameterProvider);
+
+        this.addObserverInterest (model.getProject ().getParameterBank ());
+        this.addObserverInterest (model.getCursorTrack ().getParameterBank ());
     }
 
 
@@ -55,6 +55,11 @@ public abstract class AbstractTrackMode extends BaseMode<ITrack>
 
         model.addTrackBankObserver (this::switchBanks);
 
+        this.addObserverInterest (model.getTrackBank ().getVuMeterObservers ());
+        final ITrackBank effectTrackBank = model.getEffectTrackBank ();
+        if (effectTrackBank != null)
+            this.addObserverInterest (effectTrackBank.getVuMeterObservers ());
+
         for (int i = 0; i < 8; i++)
             this.menu.add (new Pair<> (" ", Boolean.FALSE));
     }
@@ -898,7 +898,7 @@ public class ACVSControllerSetup extends AbstractControllerSetup<ACVSControlSurf
 
         this.host.scheduleTask ( () -> {
             this.host.println ("Disconnected.");
-            surface.sendPing ();
+            surface.startPing ();
         }, 2000);
     }
 
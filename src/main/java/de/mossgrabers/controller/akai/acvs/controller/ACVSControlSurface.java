@@ -220,7 +220,14 @@ public class ACVSControlSurface extends AbstractControlSurface<ACVSConfiguration
     /**
      * Start pinging the device.
      */
-    public void sendPing ()
+    public void startPing ()
+    {
+        this.sendPing ();
+        this.host.getTimerService ().schedulePeriodic (this, this::sendPing, PING_INTERVAL);
+    }
+
+
+    private void sendPing ()
     {
         if (this.isShutdown)
             return;
@@ -232,7 +239,6 @@ public class ACVSControlSurface extends AbstractControlSurface<ACVSConfiguration
         }
 
         ((ACVSMidiOutput) this.output).sendPing ();
-        this.host.scheduleTask (this::sendPing, PING_INTERVAL);
     }
 
 
@@ -323,6 +329,7 @@ public class ACVSControlSurface extends AbstractControlSurface<ACVSConfiguration
     protected void internalShutdown ()
     {
         this.isShutdown = true;
+        this.host.getTimerService ().cancel (this);
         this.host.println ("Stop sending ping.");
 
         final ACVSDisplay d = (ACVSDisplay) this.getDisplay ();
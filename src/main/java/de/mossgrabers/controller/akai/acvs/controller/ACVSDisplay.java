@@ -140,7 +140,10 @@ public class ACVSDisplay extends AbstractTextDisplay
     public void forceFlush ()
     {
         for (int row = 0; row < this.noOfLines; row++)
+        {
             this.currentMessage[row] = null;
+            this.sentRows[row] = null;
+        }
         for (int row = 0; row < this.noOfLines; row++)
             this.currentColor[row] = null;
         for (final ScreenItem item: ScreenItem.values ())
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.akai.acvs.controller;
 import de.mossgrabers.controller.akai.acvs.ACVSDevice;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.MidiRecorder;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -311,4 +312,20 @@ public class ACVSMidiOutput implements IMidiOutput
     {
         // Not used
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void registerMetrics (final String name)
+    {
+        this.output.registerMetrics (name);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setRecorder (final MidiRecorder recorder, final String name)
+    {
+        this.output.setRecorder (recorder, name);
+    }
 }
@@ -75,6 +75,7 @@ import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.featuregroup.FeatureGroupManager;
 import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
@@ -335,8 +336,8 @@ public class APCControllerSetup extends AbstractControllerSetup<APCControlSurfac
             deviceKnob.disableTakeOver ();
         }
 
-        new TrackVolumeMode<> (surface, this.model, true, ContinuousID.createSequentialList (ContinuousID.FADER1, 8)).onActivate ();
-        new ParameterMode<> (surface, this.model, true, ContinuousID.createSequentialList (ContinuousID.DEVICE_KNOB1, 8)).onActivate ();
+        FeatureGroupManager.activateFeatureGroup (new TrackVolumeMode<> (surface, this.model, true, ContinuousID.createSequentialList (ContinuousID.FADER1, 8)));
+        FeatureGroupManager.activateFeatureGroup (new ParameterMode<> (surface, this.model, true, ContinuousID.createSequentialList (ContinuousID.DEVICE_KNOB1, 8)));
 
         if (this.isMkII)
             this.addRelativeKnob (ContinuousID.TEMPO, "Tempo", new APCTempoCommand (this.model, surface, timeout), APCControlSurface.APC_KNOB_TEMPO);
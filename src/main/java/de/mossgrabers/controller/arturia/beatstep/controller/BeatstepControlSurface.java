@@ -11,6 +11,7 @@ import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexPacer;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 
@@ -78,6 +79,8 @@ public class BeatstepControlSurface extends AbstractControlSurface<BeatstepConfi
 
     static final String     SYSEX_HEADER        = "F0 00 20 6B 7F 42 02 00 10 ";
     static final String     SYSEX_END           = "F7";
+    /** The Beatstep drops sysex messages if more than one is sent per millisecond. */
+    static final int        SYSEX_PER_MS        = 1;
 
     private boolean         isShift;
 
@@ -93,7 +96,7 @@ public class BeatstepControlSurface extends AbstractControlSurface<BeatstepConfi
      */
     public BeatstepControlSurface (final IHost host, final ColorManager colorManager, final BeatstepConfiguration configuration, final IMidiOutput output, final IMidiInput input)
     {
-        super (host, configuration, colorManager, output, input, new BeatstepPadGrid (colorManager, output), 800, 314);
+        super (host, configuration, colorManager, output, input, new BeatstepPadGrid (colorManager, output, new SysexPacer (output, host, SYSEX_PER_MS, 0)), 800, 314);
     }
 
 
@@ -112,6 +115,17 @@ public class BeatstepControlSurface extends AbstractControlSurface<BeatstepConfi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void internalShutdown ()
+    {
+        super.internalShutdown ();
+
+        // Send the turned off pad states, which are still queued
+        ((BeatstepPadGrid) this.padGrid).getSysexPacer ().shutdown ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean isShiftPressed ()
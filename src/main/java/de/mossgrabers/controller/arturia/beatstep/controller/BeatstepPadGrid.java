@@ -7,6 +7,7 @@ package de.mossgrabers.controller.arturia.beatstep.controller;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexPacer;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -17,7 +18,7 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class BeatstepPadGrid extends PadGridImpl
 {
-    private final Object sysexLock = new Object ();
+    private final SysexPacer sysexPacer;
 
 
     /**
@@ -25,10 +26,13 @@ public class BeatstepPadGrid extends PadGridImpl
      *
      * @param colorManager The color manager for accessing specific colors to use
      * @param output The MIDI output which can address the pad states
+     * @param sysexPacer Limits the speed of sending the pad states
      */
-    public BeatstepPadGrid (final ColorManager colorManager, final IMidiOutput output)
+    public BeatstepPadGrid (final ColorManager colorManager, final IMidiOutput output, final SysexPacer sysexPacer)
     {
         super (colorManager, output, 2, 8, 36);
+
+        this.sysexPacer = sysexPacer;
     }
 
 
@@ -64,19 +68,18 @@ public class BeatstepPadGrid extends PadGridImpl
             color
         }) + BeatstepControlSurface.SYSEX_END;
 
-        synchronized (this.sysexLock)
-        {
-            this.output.sendSysex (data);
-            // Brute force to slow down sending of sysex a bit...
-            try
-            {
-                Thread.sleep (1);
-            }
-            catch (final InterruptedException ex)
-            {
-                // Ignore
-            }
-        }
+        this.sysexPacer.sendSysex (Integer.valueOf (pad), data);
+    }
+
+
+    /**
+     * Get the pacer which limits the speed of sending the pad states.
+     *
+     * @return The pacer
+     */
+    public SysexPacer getSysexPacer ()
+    {
+        return this.sysexPacer;
     }
 
 
@@ -315,13 +315,10 @@ public class EC4ControlSurface extends AbstractControlSurface<EC4Configuration>
     {
         synchronized (this.notificationLock)
         {
-            final boolean isRunning = this.notificationTimeout > 0;
-            this.notificationTimeout = AbstractTextDisplay.NOTIFICATION_TIME;
-            if (!isRunning)
-            {
+            if (this.notificationTimeout <= 0)
                 ((EC4Display) this.getTextDisplay ()).setTotalDisplayVisible (true);
-                this.host.scheduleTask (this::watch, 100);
-            }
+            this.notificationTimeout = AbstractTextDisplay.NOTIFICATION_TIME;
+            this.host.getTimerService ().schedule (this.notificationLock, this::watch, AbstractTextDisplay.NOTIFICATION_TIME);
         }
     }
 
@@ -330,12 +327,8 @@ public class EC4ControlSurface extends AbstractControlSurface<EC4Configuration>
     {
         synchronized (this.notificationLock)
         {
-            this.notificationTimeout -= 100;
-
-            if (this.notificationTimeout <= 0)
-                ((EC4Display) this.getTextDisplay ()).setTotalDisplayVisible (false);
-            else
-                this.host.scheduleTask (this::watch, 100);
+            this.notificationTimeout = 0;
+            ((EC4Display) this.getTextDisplay ()).setTotalDisplayVisible (false);
         }
     }
 
@@ -13,29 +13,43 @@ import com.studiohartman.jamepad.ControllerIndex;
 import com.studiohartman.jamepad.ControllerManager;
 import com.studiohartman.jamepad.ControllerUnpluggedException;
 
-import java.util.EnumMap;
-import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
- * Thread to monitor the input coming from a Gamepad.
+ * Thread to monitor the input coming from a Gamepad. The gamepad is polled with an adaptive rate:
+ * as long as there is activity it is polled every millisecond, when idle the interval is doubled
+ * step by step up to a maximum to keep the CPU load low.
  *
  * @author Jürgen Moßgraber
  */
 public class GamepadControllerInputThread implements Runnable
 {
-    private static final long                    INTERVAL           = 1;
+    private static final long                MIN_INTERVAL          = 1;
+    private static final long                MAX_INTERVAL          = 32;
+    private static final long                DISCONNECTED_INTERVAL = 250;
+    private static final long                IDLE_TIME             = 500;
 
-    private final AtomicBoolean                  running            = new AtomicBoolean (false);
+    /** Axis values below this (absolute) value are treated as the resting center position. */
+    private static final float               DEAD_ZONE             = 0.09f;
+    /** Axis changes smaller than this are ignored to filter out noise of the analog sticks. */
+    private static final float               NOISE_THRESHOLD       = 0.002f;
 
-    private final IHost                          host;
-    private final ControllerManager              gamepadManager;
-    private final IGamepadCallback               gamepadCallback;
-    private final Map<ControllerButton, Boolean> buttonStates       = new EnumMap<> (ControllerButton.class);
-    private final Map<ControllerAxis, Float>     axisStates         = new EnumMap<> (ControllerAxis.class);
+    private static final ControllerButton [] BUTTONS               = ControllerButton.values ();
+    private static final ControllerAxis []   AXES                  = ControllerAxis.values ();
 
-    private int                                  selectedController = -1;
+    private final AtomicBoolean              running               = new AtomicBoolean (false);
+    private final Object                     wakeUp                = new Object ();
+
+    private final IHost                      host;
+    private final ControllerManager          gamepadManager;
+    private final IGamepadCallback           gamepadCallback;
+    private final boolean []                 buttonStates          = new boolean [BUTTONS.length];
+    private final float []                   axisStates            = new float [AXES.length];
+
+    private int                              selectedController    = -1;
+    private volatile long                    interval              = MIN_INTERVAL;
+    private long                             lastActivity;
 
 
     /**
@@ -68,6 +82,7 @@ public class GamepadControllerInputThread implements Runnable
     public void stop ()
     {
         this.running.set (false);
+        this.wakeUp ();
     }
 
 
@@ -89,6 +104,8 @@ public class GamepadControllerInputThread implements Runnable
 
             this.selectedController = controllerIndex;
         }
+
+        this.wakeUp ();
     }
 
 
@@ -97,66 +114,21 @@ public class GamepadControllerInputThread implements Runnable
     public void run ()
     {
         this.running.set (true);
+        this.lastActivity = System.currentTimeMillis ();
 
         try
         {
             while (this.running.get ())
             {
                 // Hand over to other running threads
-                try
-                {
-                    Thread.sleep (INTERVAL);
-                }
-                catch (final InterruptedException ex)
-                {
-                    Thread.currentThread ().interrupt ();
-                }
+                this.waitForNextPoll ();
 
                 if (!this.running.get ())
                     break;
 
                 synchronized (this.gamepadManager)
                 {
-                    if (this.selectedController < 0 || this.selectedController >= this.gamepadManager.getNumControllers ())
-                        continue;
-
-                    final ControllerIndex currController = this.gamepadManager.getControllerIndex (this.selectedController);
-                    if (!currController.isConnected ())
-                    {
-                        this.gamepadManager.update ();
-                        if (this.selectedController >= 0 && this.selectedController < this.gamepadManager.getNumControllers ())
-                            currController.reconnectController ();
-                        continue;
-                    }
-
-                    try
-                    {
-                        for (final ControllerButton button: ControllerButton.values ())
-                        {
-                            final boolean isPressed = currController.isButtonPressed (button);
-                            final Boolean state = this.buttonStates.getOrDefault (button, Boolean.FALSE);
-                            if (state.booleanValue () == isPressed)
-                                continue;
-
-                            this.buttonStates.put (button, Boolean.valueOf (isPressed));
-                            this.host.scheduleTask ( () -> this.gamepadCallback.process (button, isPressed ? ButtonEvent.DOWN : ButtonEvent.UP), 0);
-                        }
-
-                        for (final ControllerAxis axis: ControllerAxis.values ())
-                        {
-                            final float position = currController.getAxisState (axis);
-                            final Float state = this.axisStates.getOrDefault (axis, Float.valueOf (0));
-                            if (state.floatValue () == position)
-                                continue;
-
-                            this.axisStates.put (axis, Float.valueOf (position));
-                            this.host.scheduleTask ( () -> this.gamepadCallback.process (axis, position), 0);
-                        }
-                    }
-                    catch (final ControllerUnpluggedException ex)
-                    {
-                        this.host.error ("Controller not connected.");
-                    }
+                    this.interval = this.poll ();
                 }
             }
         }
@@ -165,4 +137,114 @@ public class GamepadControllerInputThread implements Runnable
             this.host.error ("Controller error.", ex);
         }
     }
+
+
+    /**
+     * Poll the state of the selected gamepad.
+     *
+     * @return The interval in milliseconds to wait until the next poll
+     */
+    private long poll ()
+    {
+        if (this.selectedController < 0 || this.selectedController >= this.gamepadManager.getNumControllers ())
+            return DISCONNECTED_INTERVAL;
+
+        final ControllerIndex currController = this.gamepadManager.getControllerIndex (this.selectedController);
+        if (!currController.isConnected ())
+        {
+            this.gamepadManager.update ();
+            if (this.selectedController >= 0 && this.selectedController < this.gamepadManager.getNumControllers ())
+                currController.reconnectController ();
+            return DISCONNECTED_INTERVAL;
+        }
+
+        boolean hasChanged = false;
+        try
+        {
+            for (int i = 0; i < BUTTONS.length; i++)
+            {
+                final ControllerButton button = BUTTONS[i];
+                final boolean isPressed = currController.isButtonPressed (button);
+                if (this.buttonStates[i] == isPressed)
+                    continue;
+
+                this.buttonStates[i] = isPressed;
+                hasChanged = true;
+                this.host.scheduleTask ( () -> this.gamepadCallback.process (button, isPressed ? ButtonEvent.DOWN : ButtonEvent.UP), 0);
+            }
+
+            for (int i = 0; i < AXES.length; i++)
+            {
+                final ControllerAxis axis = AXES[i];
+                final float position = filterAxis (currController.getAxisState (axis), this.axisStates[i]);
+                if (this.axisStates[i] == position)
+                    continue;
+
+                this.axisStates[i] = position;
+                hasChanged = true;
+                this.host.scheduleTask ( () -> this.gamepadCallback.process (axis, position), 0);
+            }
+        }
+        catch (final ControllerUnpluggedException ex)
+        {
+            this.host.error ("Controller not connected.");
+            return DISCONNECTED_INTERVAL;
+        }
+
+        final long now = System.currentTimeMillis ();
+        if (hasChanged)
+        {
+            this.lastActivity = now;
+            return MIN_INTERVAL;
+        }
+
+        // Back off step by step if there was no activity for some time
+        if (now - this.lastActivity < IDLE_TIME)
+            return MIN_INTERVAL;
+        return Math.min (MAX_INTERVAL, Math.max (MIN_INTERVAL, this.interval) * 2);
+    }
+
+
+    /**
+     * Apply the dead-zone and noise filter to a new axis position.
+     *
+     * @param position The new position in the range of [-1..1]
+     * @param previousPosition The previously reported position
+     * @return The filtered position, returns the previous position if the change should be ignored
+     */
+    private static float filterAxis (final float position, final float previousPosition)
+    {
+        if (Math.abs (position) < DEAD_ZONE)
+            return 0;
+        // Always report the end positions
+        if (Math.abs (position) >= 1.0f)
+            return position;
+        return Math.abs (position - previousPosition) < NOISE_THRESHOLD ? previousPosition : position;
+    }
+
+
+    private void waitForNextPoll ()
+    {
+        synchronized (this.wakeUp)
+        {
+            try
+            {
+                this.wakeUp.wait (this.interval);
+            }
+            catch (final InterruptedException ex)
+            {
+                Thread.currentThread ().interrupt ();
+            }
+        }
+    }
+
+
+    private void wakeUp ()
+    {
+        synchronized (this.wakeUp)
+        {
+            this.interval = MIN_INTERVAL;
+            this.wakeUp.notifyAll ();
+        }
+    }
 }
@@ -541,6 +541,12 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
         this.activateBehaviourOnPauseSetting (globalSettings);
         this.activateBehaviourOnStopSetting (globalSettings);
+
+        ///////////////////////////
+        // Debug
+
+        this.activateMetricsSetting (globalSettings);
+        this.activateMidiRecordingSetting (globalSettings);
     }
 
 
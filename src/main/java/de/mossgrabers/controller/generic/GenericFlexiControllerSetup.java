@@ -51,6 +51,7 @@ import de.mossgrabers.framework.controller.valuechanger.TwosComplementValueChang
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ModelSetup;
 import de.mossgrabers.framework.daw.constants.DeviceID;
+import de.mossgrabers.framework.daw.data.ICursorTrack;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
@@ -69,6 +70,7 @@ import de.mossgrabers.framework.mode.track.TrackMode;
 import de.mossgrabers.framework.mode.track.TrackPanMode;
 import de.mossgrabers.framework.mode.track.TrackSendMode;
 import de.mossgrabers.framework.mode.track.TrackVolumeMode;
+import de.mossgrabers.framework.observer.IChangeObserver;
 import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.FileEx;
@@ -332,9 +334,18 @@ public class GenericFlexiControllerSetup extends AbstractControllerSetup<Generic
         surface.registerHandler (new GrooveHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
         surface.registerHandler (new TransportHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
         surface.registerHandler (new LayoutHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
-        surface.registerHandler (new TrackHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
-        surface.registerHandler (new FxTrackHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
-        surface.registerHandler (new MasterHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
+        // The bank scroll commands depend on the number of tracks which cannot be observed
+        final IChangeObserver trackObserver = surface.registerObservedHandler (new TrackHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger), FlexiCommand.TRACK_SELECT_PREVIOUS_BANK_PAGE, FlexiCommand.TRACK_SELECT_NEXT_BANK_PAGE, FlexiCommand.TRACK_SELECT_PREVIOUS_TRACK, FlexiCommand.TRACK_SCROLL_BANK_PAGE_BY_1_LEFT, FlexiCommand.TRACK_SELECT_NEXT_TRACK, FlexiCommand.TRACK_SCROLL_BANK_PAGE_BY_1_RIGHT);
+        this.observeTracks (trackObserver);
+        final IChangeObserver fxTrackObserver = surface.registerObservedHandler (new FxTrackHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger), FlexiCommand.FX_TRACK_SELECT_PREVIOUS_BANK_PAGE, FlexiCommand.FX_TRACK_SELECT_NEXT_BANK_PAGE, FlexiCommand.FX_TRACK_SELECT_PREVIOUS_TRACK, FlexiCommand.FX_TRACK_SELECT_NEXT_TRACK, FlexiCommand.FX_TRACK_SCROLL_BANK_PAGE_BY_1_LEFT, FlexiCommand.FX_TRACK_SCROLL_BANK_PAGE_BY_1_RIGHT);
+        final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
+        if (effectTrackBank != null)
+            this.observeTrackBank (effectTrackBank, fxTrackObserver);
+        // The crossfader is part of the transport which has no change observer
+        final IChangeObserver masterObserver = surface.registerObservedHandler (new MasterHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger), FlexiCommand.MASTER_CROSSFADER);
+        final IMasterTrack masterTrack = this.model.getMasterTrack ();
+        masterTrack.addChangeObserver (masterObserver);
+        masterTrack.addSelectionObserver ( (index, isSelected) -> masterObserver.changed ());
         surface.registerHandler (new DeviceHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
         surface.registerHandler (new InstrumentDeviceHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
         surface.registerHandler (new LayerHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
@@ -352,6 +363,34 @@ public class GenericFlexiControllerSetup extends AbstractControllerSetup<Generic
     }
 
 
+    /**
+     * Notify the observer about all changes of the tracks which are read by the track commands.
+     *
+     * @param observer The observer
+     */
+    private void observeTracks (final IChangeObserver observer)
+    {
+        this.observeTrackBank (this.model.getTrackBank (), observer);
+        final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
+        if (effectTrackBank != null)
+            this.observeTrackBank (effectTrackBank, observer);
+
+        final ICursorTrack cursorTrack = this.model.getCursorTrack ();
+        cursorTrack.addChangeObserver (observer);
+        this.model.addTrackBankObserver (trackBank -> observer.changed ());
+    }
+
+
+    private void observeTrackBank (final ITrackBank trackBank, final IChangeObserver observer)
+    {
+        for (int i = 0; i < trackBank.getPageSize (); i++)
+            trackBank.getItem (i).addChangeObserver (observer);
+        // The selection state is not covered by the change observers of the tracks
+        trackBank.addSelectionObserver ( (index, isSelected) -> observer.changed ());
+        trackBank.addScrollPositionObserver (position -> observer.changed ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void handleTrackChange (final boolean isSelected)
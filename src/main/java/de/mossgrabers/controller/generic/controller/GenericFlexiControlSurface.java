@@ -8,10 +8,13 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
 import de.mossgrabers.controller.generic.flexihandler.IFlexiCommandHandler;
@@ -25,6 +28,7 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.IChangeObserver;
 import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.nativefiledialogs.FileFilter;
 import de.mossgrabers.nativefiledialogs.NativeFileDialogs;
@@ -46,6 +50,11 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     };
 
     private final int []                                  valueCache            = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private final int []                                  commandValues         = new int [FlexiCommand.values ().length];
+    private final int []                                  commandValueFlushes   = new int [FlexiCommand.values ().length];
+    private int                                           flushCounter          = 0;
+    private final ObservedSources []                      commandSources        = new ObservedSources [FlexiCommand.values ().length];
+    private final List<ObservedSources>                   observedSources       = new ArrayList<> ();
     private final Map<FlexiCommand, IFlexiCommandHandler> handlers              = new EnumMap<> (FlexiCommand.class);
     private NativeFileDialogs                             dialogs;
 
@@ -97,7 +106,34 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
      */
     public void registerHandler (final IFlexiCommandHandler handler)
     {
-        Arrays.asList (handler.getSupportedCommands ()).forEach (command -> this.handlers.put (command, handler));
+        for (final FlexiCommand command: handler.getSupportedCommands ())
+        {
+            this.handlers.put (command, handler);
+            this.commandSources[command.ordinal ()] = null;
+        }
+    }
+
+
+    /**
+     * Register a Flexi command handler whose sources can be observed. The values of its commands
+     * are only retrieved again after one of the sources has changed instead of on each flush.
+     *
+     * @param handler The handler to register
+     * @param unobservedCommands Commands of the handler which depend on sources that cannot be
+     *            observed, their values are still retrieved on each flush
+     * @return The observer to call when one of the sources of the handler has changed
+     */
+    public IChangeObserver registerObservedHandler (final IFlexiCommandHandler handler, final FlexiCommand... unobservedCommands)
+    {
+        this.registerHandler (handler);
+
+        final ObservedSources sources = new ObservedSources ();
+        this.observedSources.add (sources);
+        final Set<FlexiCommand> commands = EnumSet.noneOf (FlexiCommand.class);
+        Collections.addAll (commands, handler.getSupportedCommands ());
+        Arrays.asList (unobservedCommands).forEach (commands::remove);
+        commands.forEach (command -> this.commandSources[command.ordinal ()] = sources);
+        return sources;
     }
 
 
@@ -105,6 +141,18 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     @Override
     public void flush ()
     {
+        // Invalidates the command values of the previous flush, the values of the observed
+        // commands only if one of their sources has changed since then
+        this.flushCounter++;
+        for (final ObservedSources sources: this.observedSources)
+        {
+            if (sources.hasChanged)
+            {
+                sources.hasChanged = false;
+                sources.changeFlush = this.flushCounter;
+            }
+        }
+
         final CommandSlot [] slots = this.configuration.getCommandSlots ();
         for (int i = 0; i < slots.length; i++)
         {
@@ -121,7 +169,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         if (this.isUpdatingValue && !(command.isTrigger () && slot.isSendValueWhenReceived ()))
             return;
 
-        final int value = this.getCommandValue (command);
+        final int value = this.getFlushedCommandValue (command);
 
         synchronized (this.valueCache)
         {
@@ -473,6 +521,28 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     }
 
 
+    /**
+     * Get the current value of a command. The value is only retrieved once during a flush, even if
+     * the command is mapped to several slots. The value of an observed command is kept until one
+     * of its sources has changed.
+     *
+     * @param command The command
+     * @return The value or -1
+     */
+    private int getFlushedCommandValue (final FlexiCommand command)
+    {
+        final int index = command.ordinal ();
+        final ObservedSources sources = this.commandSources[index];
+        final int validFlush = sources == null ? this.flushCounter : sources.changeFlush;
+        if (this.commandValueFlushes[index] < validFlush)
+        {
+            this.commandValueFlushes[index] = this.flushCounter;
+            this.commandValues[index] = this.getCommandValue (command);
+        }
+        return this.commandValues[index];
+    }
+
+
     /**
      * Get the current value of a command.
      *
@@ -590,4 +660,22 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         if (oldLayer != this.functionLayer)
             this.getHost ().showNotification ("Functions Layer " + (this.functionLayer + 1));
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Tracks the changes of the sources of an observed handler.
+     */
+    private static class ObservedSources implements IChangeObserver
+    {
+        private boolean hasChanged = true;
+        private int     changeFlush;
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void changed ()
+        {
+            this.hasChanged = true;
+        }
+    }
+}
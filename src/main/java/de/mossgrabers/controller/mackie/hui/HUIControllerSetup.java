@@ -683,7 +683,7 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
             surface.getModeManager ().setActive (Modes.PAN);
 
             if (shouldSendPing)
-                this.sendPing (surface);
+                this.host.getTimerService ().schedulePeriodic (surface, () -> this.sendPing (surface), 1000);
         }
     }
 
@@ -691,7 +691,6 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
     private void sendPing (final HUIControlSurface surface)
     {
         surface.getMidiOutput ().sendNote (0, 0);
-        this.host.scheduleTask ( () -> this.sendPing (surface), 1000);
     }
 
 
@@ -27,6 +27,10 @@ public class HUIDisplay extends AbstractTextDisplay
     private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
 
     private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    private final Object             pendingLock          = new Object ();
+    private String                   pendingText;
+    private int                      pendingFromCell;
+    private int                      pendingToCell;
 
 
     /**
@@ -47,13 +51,66 @@ public class HUIDisplay extends AbstractTextDisplay
     /** {@inheritDoc} */
     @Override
     public void writeLine (final int row, final String text, final String previousText)
+    {
+        this.sendCells (text, 0, this.noOfCells);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeRange (final int row, final String text, final String previousText, final int start, final int end)
+    {
+        // Only send the cells (each 4 characters) which contain changes
+        this.sendCells (text, start / 4, (end + 3) / 4);
+    }
+
+
+    /**
+     * Send cells of the line asynchronously. If there is still a pending update, the cell ranges
+     * are merged since the executor only executes the latest task.
+     *
+     * @param text The text of the line
+     * @param fromCell The index of the first cell to send
+     * @param toCell The index after the last cell to send
+     */
+    private void sendCells (final String text, final int fromCell, final int toCell)
     {
         if (this.executor.isShutdown ())
             return;
+
+        synchronized (this.pendingLock)
+        {
+            if (this.pendingText == null)
+            {
+                this.pendingFromCell = fromCell;
+                this.pendingToCell = toCell;
+            }
+            else
+            {
+                this.pendingFromCell = Math.min (this.pendingFromCell, fromCell);
+                this.pendingToCell = Math.max (this.pendingToCell, toCell);
+            }
+            this.pendingText = text;
+        }
+
         this.executor.execute ( () -> {
+
+            final String sendText;
+            final int from;
+            final int to;
+            synchronized (this.pendingLock)
+            {
+                sendText = this.pendingText;
+                from = this.pendingFromCell;
+                to = this.pendingToCell;
+                this.pendingText = null;
+            }
+            if (sendText == null)
+                return;
+
             try
             {
-                this.sendDisplayLine (text);
+                this.sendDisplayCells (sendText, from, Math.min (to, this.noOfCells));
             }
             catch (final RuntimeException ex)
             {
@@ -64,20 +121,20 @@ public class HUIDisplay extends AbstractTextDisplay
 
 
     /**
-     * Send a line to the display.
+     * Send cells of a line to the display.
      *
      * @param text The text to send
+     * @param fromCell The index of the first cell to send
+     * @param toCell The index after the last cell to send
      */
-    private void sendDisplayLine (final String text)
+    private void sendDisplayCells (final String text, final int fromCell, final int toCell)
     {
-        final String t = text;
-
         final int [] array = new int [5];
-        for (int cell = 0; cell < this.noOfCells; cell++)
+        for (int cell = fromCell; cell < toCell; cell++)
         {
             array[0] = cell;
             for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
+                array[1 + i] = text.charAt (cell * 4 + i);
             this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
         }
     }
@@ -401,6 +401,12 @@ public class MCUConfiguration extends AbstractConfiguration
         this.activateZoomStateSetting (globalSettings);
         this.activateChannelTouchSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+
+        ///////////////////////////
+        // Debug
+
+        this.activateMetricsSetting (globalSettings);
+        this.activateMidiRecordingSetting (globalSettings);
     }
 
 
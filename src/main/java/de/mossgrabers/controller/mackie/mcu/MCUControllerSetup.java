@@ -4,7 +4,6 @@
 
 package de.mossgrabers.controller.mackie.mcu;
 
-import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.Map;
@@ -101,6 +100,7 @@ import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.featuregroup.AbstractParameterMode;
+import de.mossgrabers.framework.featuregroup.FeatureGroupManager;
 import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.mode.MasterVolumeMode;
@@ -163,13 +163,14 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
     private static final Set<Modes> VALUE_MODES      = EnumSet.of (Modes.VOLUME, Modes.PAN, Modes.TRACK, Modes.SEND1, Modes.SEND2, Modes.SEND3, Modes.SEND4, Modes.SEND5, Modes.SEND6, Modes.SEND7, Modes.SEND8, Modes.DEVICE_PARAMS, Modes.EQ_DEVICE_PARAMS, Modes.INSTRUMENT_DEVICE_PARAMS, Modes.USER);
 
-    private final int []            vuValues         = new int [32];
-    private final int []            vuValuesRight    = new int [32];
-    private final int []            masterVuValues   = new int [2];
-    private final int []            faderValues      = new int [32];
-    private int                     masterFaderValue = -1;
     private final int               numMCUDevices;
 
+    // The transport keeps its texts as long as they do not change, therefore the display text
+    // needs only to be created again if one of the text instances differs
+    private String                  positionSource;
+    private String                  positionTempo;
+    private String                  positionText;
+
 
     /**
      * Constructor.
@@ -186,10 +187,6 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         this.numMCUDevices = numMCUDevices;
 
-        Arrays.fill (this.vuValues, -1);
-        Arrays.fill (this.faderValues, -1);
-        Arrays.fill (this.masterVuValues, -1);
-
         this.colorManager = new MCUColorManager ();
         this.valueChanger = new SignedBit2RelativeValueChanger (16241 + 1, 10);
         this.configuration = new MCUConfiguration (host, this.valueChanger, numMCUDevices, factory.getArpeggiatorModes ());
@@ -202,19 +199,35 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     {
         super.flush ();
 
-        this.surfaces.forEach (surface -> {
+        // The state which is shared by all units is only calculated once
+        final Modes activeMode = this.getSurface ().getModeManager ().getActiveID ();
+        final IChannelBank<?> vuChannelBank = this.configuration.isEnableVUMeters () ? this.getVUChannelBank (activeMode) : null;
+        final Modes faderModeId = this.configuration.hasMotorFaders () ? this.getFaderModeID (activeMode) : null;
+        final String positionText = this.configuration.hasSegmentDisplay () ? this.getPositionText () : null;
+
+        for (int index = 0; index < this.numMCUDevices; index++)
+        {
+            final MCUControlSurface surface = this.getSurface (index);
             try
             {
                 final ModeManager modeManager = surface.getModeManager ();
                 final Modes mode = modeManager.getActiveID ();
-                this.updateMode (mode);
-
                 if (mode == null)
-                    return;
+                    continue;
 
-                this.updateVUMeters ();
-                this.updateFaders (surface.isShiftPressed ());
-                this.updateSegmentDisplay ();
+                final boolean isMain = this.configuration.getDeviceType (index) == MCUDeviceType.MAIN;
+                if (isMain)
+                {
+                    if (this.configuration.hasAssignmentDisplay ())
+                        surface.getTextDisplay (3).setRow (0, MODE_ACRONYMS.get (mode)).allDone ();
+                    if (positionText != null)
+                        surface.getTextDisplay (2).setRow (0, positionText).allDone ();
+                }
+
+                if (vuChannelBank != null)
+                    this.updateVUMeters (surface, index, isMain, vuChannelBank);
+                if (faderModeId != null)
+                    this.updateFaders (surface, isMain, faderModeId);
 
                 final IMode activeOrTempMode = modeManager.getActive ();
                 if (activeOrTempMode instanceof final BaseMode<?> baseMode)
@@ -224,7 +237,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             {
                 this.host.error ("Error during flush.", ex);
             }
-        });
+        }
     }
 
 
@@ -608,7 +621,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
                     // Prevent catch up jitter with motor faders
                     master.disableTakeOver ();
                 }
-                new MasterVolumeMode<> (surface, this.model, ContinuousID.FADER_MASTER).onActivate ();
+                FeatureGroupManager.activateFeatureGroup (new MasterVolumeMode<> (surface, this.model, ContinuousID.FADER_MASTER));
             }
 
             for (int i = 0; i < 8; i++)
@@ -790,122 +803,83 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     }
 
 
-    private void updateSegmentDisplay ()
+    private String getPositionText ()
     {
-        if (!this.configuration.hasSegmentDisplay ())
-            return;
-
         final ITransport t = this.model.getTransport ();
 
-        String positionText = this.configuration.isDisplayTime () ? t.getPositionText () : t.getBeatText ();
-        positionText = positionText.replace ('.', ':');
+        final String source = this.configuration.isDisplayTime () ? t.getPositionText () : t.getBeatText ();
+        final boolean isDisplayTicks = this.configuration.isDisplayTicks ();
+        final String tempo = isDisplayTicks ? null : t.formatTempoNoFraction (t.getTempo ());
+        if (source == this.positionSource && tempo == this.positionTempo)
+            return this.positionText;
 
-        if (this.configuration.isDisplayTicks ())
+        String positionText = source.replace ('.', ':');
+        if (isDisplayTicks)
         {
             if (!this.configuration.isDisplayTime ())
                 positionText += " ";
         }
         else
         {
-            String tempoStr = t.formatTempoNoFraction (t.getTempo ());
+            String tempoStr = tempo;
             final int pos = positionText.lastIndexOf (':');
             if (tempoStr.length () < 3)
                 tempoStr = "0" + tempoStr;
             positionText = positionText.substring (0, pos + 1) + tempoStr;
         }
 
-        for (int index = 0; index < this.numMCUDevices; index++)
-        {
-            if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN)
-                this.getSurface (index).getTextDisplay (2).setRow (0, positionText).allDone ();
-        }
+        this.positionSource = source;
+        this.positionTempo = tempo;
+        this.positionText = positionText;
+        return positionText;
     }
 
 
-    private void updateVUMeters ()
+    private IChannelBank<?> getVUChannelBank (final Modes activeMode)
     {
-        if (!this.configuration.isEnableVUMeters ())
-            return;
-
-        final Modes activeMode = this.getSurface ().getModeManager ().getActiveID ();
-
-        final IChannelBank<?> currentChannelBank;
         if (Modes.isLayerMode (activeMode))
         {
             final ICursorDevice cursorDevice = this.model.getCursorDevice ();
-            currentChannelBank = cursorDevice.hasDrumPads () ? cursorDevice.getDrumPadBank () : cursorDevice.getLayerBank ();
+            return cursorDevice.hasDrumPads () ? cursorDevice.getDrumPadBank () : cursorDevice.getLayerBank ();
         }
-        else
-            currentChannelBank = this.model.getCurrentTrackBank ();
+        return this.model.getCurrentTrackBank ();
+    }
 
-        final VUMeterStyle vuMeterStyle = this.configuration.getVuMeterStyle ();
 
-        final boolean shouldPinFXTracksToLastController = this.configuration.shouldPinFXTracksToLastController ();
+    private void updateVUMeters (final MCUControlSurface surface, final int index, final boolean isMain, final IChannelBank<?> currentChannelBank)
+    {
+        final VUMeterStyle vuMeterStyle = this.configuration.getVuMeterStyle ();
         final boolean alwaysSendVuMeters = this.configuration.alwaysSendVuMeters ();
-        for (int index = 0; index < this.numMCUDevices; index++)
+        final boolean pinLastDevice = this.configuration.shouldPinFXTracksToLastController () && index == this.numMCUDevices - 1;
+        final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
+        final IChannelBank<?> channelBank = pinLastDevice && effectTrackBank != null ? effectTrackBank : currentChannelBank;
+        final int extenderOffset = pinLastDevice ? 0 : surface.getExtenderOffset ();
+        for (int i = 0; i < 8; i++)
         {
-            final MCUControlSurface surface = this.getSurface (index);
-            final IMidiOutput output = surface.getMidiOutput ();
-            final boolean pinLastDevice = shouldPinFXTracksToLastController && index == this.numMCUDevices - 1;
-            final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
-            final IChannelBank<?> channelBank = pinLastDevice && effectTrackBank != null ? effectTrackBank : currentChannelBank;
-            final int extenderOffset = pinLastDevice ? 0 : surface.getExtenderOffset ();
-            for (int i = 0; i < 8; i++)
+            final IChannel track = channelBank.getItem (extenderOffset + i);
+            if (vuMeterStyle == VUMeterStyle.ASPARION)
             {
-                final int channel = extenderOffset + i;
-                final IChannel track = channelBank.getItem (channel);
-
-                if (vuMeterStyle == VUMeterStyle.ASPARION)
-                {
-                    final int vuLeft = track.getVuLeft ();
-                    final int scaledVuLeft = this.scaleVU (vuLeft);
-                    if (this.vuValues[channel] != scaledVuLeft || alwaysSendVuMeters)
-                    {
-                        this.vuValues[channel] = scaledVuLeft;
-                        this.sendVUValue (output, i, vuLeft, scaledVuLeft, false);
-                    }
-                    final int vuRight = track.getVuRight ();
-                    final int scaledVuRight = this.scaleVU (vuRight);
-                    if (this.vuValuesRight[channel] != scaledVuRight || alwaysSendVuMeters)
-                    {
-                        this.vuValuesRight[channel] = scaledVuRight;
-                        this.sendVUValue (output, i, vuRight, scaledVuRight, true);
-                    }
-                }
-                else
-                {
-                    final int vu = track.getVu ();
-                    final int scaledVu = this.scaleVU (vu);
-                    if (this.vuValues[channel] != scaledVu || alwaysSendVuMeters)
-                    {
-                        this.vuValues[channel] = scaledVu;
-                        this.sendVUValue (output, i, vu, scaledVu, false);
-                    }
-                }
+                final int vuLeft = track.getVuLeft ();
+                surface.setVuMeter (i, vuLeft, this.scaleVU (vuLeft), false, alwaysSendVuMeters);
+                final int vuRight = track.getVuRight ();
+                surface.setVuMeter (i, vuRight, this.scaleVU (vuRight), true, alwaysSendVuMeters);
             }
-
-            // Stereo VUs of master channel
-            if (vuMeterStyle == VUMeterStyle.ICON && this.configuration.getDeviceType (index) == MCUDeviceType.MAIN)
+            else
             {
-                final IMasterTrack masterTrack = this.model.getMasterTrack ();
-
-                int vu = masterTrack.getVuLeft ();
-                int scaledVu = this.scaleVU (vu);
-                if (this.masterVuValues[0] != scaledVu)
-                {
-                    this.masterVuValues[0] = scaledVu;
-                    this.sendVUValue (output, 0, vu, scaledVu, true);
-                }
-
-                vu = masterTrack.getVuRight ();
-                scaledVu = this.scaleVU (vu);
-                if (this.masterVuValues[1] != scaledVu)
-                {
-                    this.masterVuValues[1] = scaledVu;
-                    this.sendVUValue (output, 1, vu, scaledVu, true);
-                }
+                final int vu = track.getVu ();
+                surface.setVuMeter (i, vu, this.scaleVU (vu), false, alwaysSendVuMeters);
             }
         }
+
+        // Stereo VUs of master channel
+        if (vuMeterStyle == VUMeterStyle.ICON && isMain)
+        {
+            final IMasterTrack masterTrack = this.model.getMasterTrack ();
+            final int vuLeft = masterTrack.getVuLeft ();
+            surface.setMasterVuMeter (0, vuLeft, this.scaleVU (vuLeft));
+            final int vuRight = masterTrack.getVuRight ();
+            surface.setMasterVuMeter (1, vuRight, this.scaleVU (vuRight));
+        }
     }
 
 
@@ -915,75 +889,24 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     }
 
 
-    private void sendVUValue (final IMidiOutput output, final int track, final int vu, final int scaledVu, final boolean isMasterOrRightChannel)
-    {
-        output.sendChannelAftertouch (isMasterOrRightChannel ? 1 : 0, 0x10 * track + scaledVu, 0);
-
-        // iCON devices do not support the clip state and Asparion ignores it!
-        if (this.configuration.getVuMeterStyle () == VUMeterStyle.MACKIE)
-        {
-            final boolean doesClip = vu > 16240;
-            output.sendChannelAftertouch (isMasterOrRightChannel ? 1 : 0, 0x10 * track + (doesClip ? 0x0E : 0x0F), 0);
-        }
-    }
-
-
-    private void updateFaders (final boolean isShiftPressed)
+    private Modes getFaderModeID (final Modes activeMode)
     {
-        if (!this.configuration.hasMotorFaders ())
-            return;
-
-        final Modes activeMode = this.getSurface ().getModeManager ().getActiveID ();
-        final Modes modeId;
         if (this.configuration.useFadersAsKnobs () && VALUE_MODES.contains (activeMode))
-            modeId = activeMode;
-        else
-            modeId = Modes.isLayerMode (activeMode) ? Modes.DEVICE_LAYER_VOLUME : Modes.VOLUME;
-
-        for (int index = 0; index < this.numMCUDevices; index++)
-        {
-            final MCUControlSurface surface = this.getSurface (index);
-            final IMode mode = surface.getModeManager ().get (modeId);
-            final IMidiOutput output = surface.getMidiOutput ();
-            for (int channel = 0; channel < 8; channel++)
-            {
-                // Don't update fader if the user touches and therefore 'stops' it
-                if (mode.isKnobTouched (channel))
-                    continue;
-
-                final int value = Math.max (0, mode.getKnobValue (channel));
-                final int position = surface.getExtenderOffset () + channel;
-                if (value != this.faderValues[position])
-                {
-                    this.faderValues[position] = value;
-                    output.sendPitchbend (channel, value % 127, value / 127);
-                }
-            }
-
-            // Update motor fader of master channel
-            if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN)
-            {
-                final int volume = isShiftPressed ? this.model.getTransport ().getMetronomeVolume () : this.model.getMasterTrack ().getVolume ();
-                if (volume != this.masterFaderValue)
-                {
-                    this.masterFaderValue = volume;
-                    output.sendPitchbend (8, volume % 127, volume / 127);
-                }
-            }
-        }
+            return activeMode;
+        return Modes.isLayerMode (activeMode) ? Modes.DEVICE_LAYER_VOLUME : Modes.VOLUME;
     }
 
 
-    private void updateMode (final Modes mode)
+    private void updateFaders (final MCUControlSurface surface, final boolean isMain, final Modes modeId)
     {
-        if (mode == null || !this.configuration.hasAssignmentDisplay ())
-            return;
-
-        for (int index = 0; index < this.numMCUDevices; index++)
-        {
-            if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN)
-                this.getSurface (index).getTextDisplay (3).setRow (0, MODE_ACRONYMS.get (mode)).allDone ();
-        }
+        final IMode mode = surface.getModeManager ().get (modeId);
+        // The surface does not update a fader while the user touches and therefore 'stops' it
+        for (int channel = 0; channel < 8; channel++)
+            surface.setFader (channel, this.valueChanger.toNormalizedValue (Math.max (0, mode.getKnobValue (channel))));
+
+        // Update motor fader of master channel
+        if (isMain)
+            surface.setFader (8, this.valueChanger.toNormalizedValue (surface.isShiftPressed () ? this.model.getTransport ().getMetronomeVolume () : this.model.getMasterTrack ().getVolume ()));
     }
 
 
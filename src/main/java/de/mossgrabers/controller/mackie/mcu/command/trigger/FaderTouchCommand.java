@@ -46,6 +46,7 @@ public class FaderTouchCommand extends SelectCommand
         final ModeManager modeManager = this.surface.getModeManager ();
         final MCUConfiguration configuration = this.surface.getConfiguration ();
         final boolean isTouched = event == ButtonEvent.DOWN;
+        this.surface.setFaderTouched (this.index, isTouched);
 
         // Master Channel
         if (this.index == 8)
@@ -10,10 +10,12 @@ import java.util.List;
 import de.mossgrabers.controller.mackie.mcu.MCUConfiguration;
 import de.mossgrabers.controller.mackie.mcu.MCUConfiguration.DisplayColors;
 import de.mossgrabers.controller.mackie.mcu.MCUConfiguration.MainDisplay;
+import de.mossgrabers.controller.mackie.mcu.MCUConfiguration.VUMeterStyle;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.hardware.MotorFaderOutput;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
@@ -190,11 +192,23 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     public static final int               KNOB_LED_MODE_WRAP       = 2;
     public static final int               KNOB_LED_MODE_SPREAD     = 3;
 
+    // Settings for the output to the motor faders, values in 14-bit resolution and milliseconds
+    private static final int              FADER_DEAD_BAND          = 16;
+    private static final int              FADER_MIN_INTERVAL       = 20;
+    private static final int              FADER_SETTLE_TIME        = 100;
+    private static final int              FADER_TOUCH_HOLD_OFF     = 300;
+
     private int                           activeVuMode             = VUMODE_LED;
     private final int []                  knobValues               = new int [8];
     private byte []                       currentColors            = new byte [8];
     private final int [] []               currentAsparionColors    = new int [8] [3];
 
+    // The last sent values of the strips of this unit, the master fader is at index 8
+    private final int []                  vuValues                 = new int [8];
+    private final int []                  vuValuesRight            = new int [8];
+    private final int []                  masterVuValues           = new int [2];
+    private final MotorFaderOutput        motorFaders;
+
     private final List<MCUControlSurface> surfaces;
     private final int                     extenderOffset;
     private final boolean                 isMainDevice;
@@ -222,9 +236,14 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
         this.isMainDevice = isMainDevice;
 
         Arrays.fill (this.knobValues, -1);
+        Arrays.fill (this.vuValues, -1);
+        Arrays.fill (this.vuValuesRight, -1);
+        Arrays.fill (this.masterVuValues, -1);
         Arrays.fill (this.currentColors, (byte) -1);
         for (int i = 0; i < 8; i++)
             Arrays.fill (this.currentAsparionColors[i], -1);
+
+        this.motorFaders = new MotorFaderOutput (host.getTimerService (), 9, FADER_DEAD_BAND, FADER_MIN_INTERVAL, FADER_SETTLE_TIME, FADER_TOUCH_HOLD_OFF, (fader, value) -> this.output.sendPitchbend (fader, value & 0x7F, value >> 7));
     }
 
 
@@ -232,6 +251,8 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     @Override
     protected void internalShutdown ()
     {
+        this.motorFaders.clear ();
+
         final IMidiOutput output = this.getMidiOutput ();
         for (int i = 0; i < 8; i++)
         {
@@ -311,6 +332,79 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     }
 
 
+    /**
+     * Sends the value of the VU meter of a channel strip if it has changed.
+     *
+     * @param channel The index of the channel strip (0-7)
+     * @param vu The VU value
+     * @param scaledVu The VU value scaled to the range of the device (0-13)
+     * @param isRightChannel True to set the right VU of a stereo VU meter
+     * @param forceUpdate Sends the value even if it did not change
+     */
+    public void setVuMeter (final int channel, final int vu, final int scaledVu, final boolean isRightChannel, final boolean forceUpdate)
+    {
+        final int [] values = isRightChannel ? this.vuValuesRight : this.vuValues;
+        if (values[channel] == scaledVu && !forceUpdate)
+            return;
+        values[channel] = scaledVu;
+        this.sendVUValue (channel, vu, scaledVu, isRightChannel);
+    }
+
+
+    /**
+     * Sends the value of the VU meter of the master channel if it has changed.
+     *
+     * @param index 0 for the left, 1 for the right channel
+     * @param vu The VU value
+     * @param scaledVu The VU value scaled to the range of the device (0-13)
+     */
+    public void setMasterVuMeter (final int index, final int vu, final int scaledVu)
+    {
+        if (this.masterVuValues[index] == scaledVu)
+            return;
+        this.masterVuValues[index] = scaledVu;
+        this.sendVUValue (index, vu, scaledVu, true);
+    }
+
+
+    private void sendVUValue (final int track, final int vu, final int scaledVu, final boolean isMasterOrRightChannel)
+    {
+        this.output.sendChannelAftertouch (isMasterOrRightChannel ? 1 : 0, 0x10 * track + scaledVu, 0);
+
+        // iCON devices do not support the clip state and Asparion ignores it!
+        if (this.configuration.getVuMeterStyle () == VUMeterStyle.MACKIE)
+        {
+            final boolean doesClip = vu > 16240;
+            this.output.sendChannelAftertouch (isMasterOrRightChannel ? 1 : 0, 0x10 * track + (doesClip ? 0x0E : 0x0F), 0);
+        }
+    }
+
+
+    /**
+     * Moves a motor fader if the value has changed. The value is sent with 14-bit resolution but
+     * rate limited and not while the fader is touched.
+     *
+     * @param channel The index of the fader, 0-7 for the channel strips, 8 for the master fader
+     * @param value The normalized value (0..1)
+     */
+    public void setFader (final int channel, final double value)
+    {
+        this.motorFaders.setValue (channel, value);
+    }
+
+
+    /**
+     * Set the touch state of a motor fader.
+     *
+     * @param channel The index of the fader, 0-7 for the channel strips, 8 for the master fader
+     * @param isTouched True if touched
+     */
+    public void setFaderTouched (final int channel, final boolean isTouched)
+    {
+        this.motorFaders.setTouched (channel, isTouched);
+    }
+
+
     /**
      * Set the indices for the Asparion displays.
      *
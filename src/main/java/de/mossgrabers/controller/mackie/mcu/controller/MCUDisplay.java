@@ -39,6 +39,9 @@ public class MCUDisplay extends AbstractTextDisplay
     private final Configuration         configuration;
 
     private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
+    private final String []             pendingTexts                   = new String [2];
+    private final int []                pendingStarts                  = new int [2];
+    private final int []                pendingEnds                    = new int [2];
     private boolean                     isShutdown                     = false;
     private boolean                     insertSpace                    = true;
 
@@ -143,39 +146,71 @@ public class MCUDisplay extends AbstractTextDisplay
     /** {@inheritDoc} */
     @Override
     public void writeLine (final int row, final String text, final String previousText)
+    {
+        this.sendRange (row, text, 0, text.length ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeRange (final int row, final String text, final String previousText, final int start, final int end)
+    {
+        // The first display and Asparion displays support to start at an offset
+        if (this.isFirstDisplay || this.isAsparion ())
+            this.sendRange (row, text, start, end);
+        else
+            this.writeLine (row, text, previousText);
+    }
+
+
+    /**
+     * Send a part of a row asynchronously. If there is still a pending update of the row, the
+     * ranges are merged since the executor only executes the latest task.
+     *
+     * @param row The row
+     * @param text The full text of the row
+     * @param start The index of the first character to send
+     * @param end The index after the last character to send
+     */
+    private void sendRange (final int row, final String text, final int start, final int end)
     {
         if (this.isShutdown)
             return;
 
+        synchronized (this.pendingTexts)
+        {
+            if (this.pendingTexts[row] == null)
+            {
+                this.pendingStarts[row] = start;
+                this.pendingEnds[row] = end;
+            }
+            else
+            {
+                this.pendingStarts[row] = Math.min (this.pendingStarts[row], start);
+                this.pendingEnds[row] = Math.max (this.pendingEnds[row], end);
+            }
+            this.pendingTexts[row] = text;
+        }
+
         final LatestTaskExecutor executor = this.executors[row + (this.isFirstDisplay ? 0 : 2)];
         executor.execute ( () -> {
-            try
+
+            final String sendText;
+            final int offset;
+            final int endOffset;
+            synchronized (this.pendingTexts)
             {
-                int offset = 0;
-                String t = text;
-                if (this.isAsparion () && previousText != null && text.length () == previousText.length ())
-                {
-                    for (int i = 0; i < text.length (); i++)
-                    {
-                        if (text.charAt (i) != previousText.charAt (i))
-                        {
-                            offset = i;
-                            break;
-                        }
-                    }
-                    int end = offset + 1;
-                    for (int i = previousText.length () - 1; i > offset; i--)
-                    {
-                        if (text.charAt (i) != previousText.charAt (i))
-                        {
-                            end = i;
-                            break;
-                        }
-                    }
-                    t = text.substring (offset, end + 1);
-                }
+                sendText = this.pendingTexts[row];
+                offset = this.pendingStarts[row];
+                endOffset = this.pendingEnds[row];
+                this.pendingTexts[row] = null;
+            }
+            if (sendText == null)
+                return;
 
-                final String hexStr = StringUtils.toHexStr (t.getBytes ());
+            try
+            {
+                final String hexStr = StringUtils.toHexStr (sendText.substring (offset, endOffset).getBytes ());
                 this.output.sendSysex (new StringBuilder (this.getHeader (row, offset)).append (hexStr).append ("F7").toString ());
             }
             catch (final RuntimeException ex)
@@ -206,8 +241,9 @@ public class MCUDisplay extends AbstractTextDisplay
                 header.append (SYSEX_DISPLAY_HEADER2);
         }
 
+        // The position in the display memory, the 2nd row starts at 0x38
         if (!isAsparion)
-            header.append (row == 0 ? "00 " : "38 ");
+            header.append (StringUtils.toHexStr ((row == 0 ? 0 : 0x38) + offset)).append (' ');
         return header.toString ();
     }
 
@@ -94,9 +94,24 @@ public class Kontrol1Display extends AbstractTextDisplay
     /** {@inheritDoc} */
     @Override
     public void writeLine (final int row, final String text, final String previousText)
+    {
+        this.writeSections (row, text, 0, text.length ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeRange (final int row, final String text, final String previousText, final int start, final int end)
+    {
+        // Dots are merged within a section of 8 characters, therefore update complete sections
+        this.writeSections (row, text, start / 8 * 8, Math.min (text.length (), (end + 7) / 8 * 8));
+    }
+
+
+    private void writeSections (final int row, final String text, final int from, final int to)
     {
         String t = text;
-        for (int i = 0; i < t.length (); i++)
+        for (int i = from; i < to; i++)
         {
             char c = t.charAt (i);
             final boolean isDot = c == '.';
@@ -163,13 +178,11 @@ public class Kontrol1Display extends AbstractTextDisplay
 
         synchronized (this.notificationLock)
         {
-            final boolean isRunning = this.notificationTimeout > 0;
             this.notificationTimeout = AbstractTextDisplay.NOTIFICATION_TIME;
             this.clear ();
             this.flush ();
 
-            if (!isRunning)
-                this.host.scheduleTask (this::watch, 100);
+            this.host.getTimerService ().schedule (this.notificationLock, this::watch, AbstractTextDisplay.NOTIFICATION_TIME);
         }
     }
 
@@ -690,15 +690,8 @@ public class Kontrol1UsbDevice
             }
             padBuffer (displayBuffer);
 
-            final byte [] l0 = new byte [SIZE_DISPLAY];
-            displayBuffer.rewind ();
-            displayBuffer.get (l0);
-
-            if (!Arrays.equals (this.line0, l0))
-            {
-                System.arraycopy (l0, 0, this.line0, 0, this.line0.length);
-                this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
-            }
+            if (updateChangedBytes (displayBuffer, this.line0))
+                this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock, 0);
 
             for (int row = 1; row < 3; row++)
             {
@@ -711,7 +704,7 @@ public class Kontrol1UsbDevice
                         displayBuffer.put (this.getCharacter (row - 1, j));
 
                     padBuffer (displayBuffer);
-                    this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
+                    this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock, row);
                 }
             }
         }
@@ -763,7 +756,7 @@ public class Kontrol1UsbDevice
             ledBuffer.clear ();
             ledBuffer.put (this.buttonStates);
             padBuffer (ledBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock);
+            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock, 0);
         }
     }
 
@@ -809,8 +802,32 @@ public class Kontrol1UsbDevice
             keyLedBuffer.clear ();
             keyLedBuffer.put (this.keyColors, 0, this.sizeKeyLEDs);
             padBuffer (keyLedBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock);
+            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock, 0);
+        }
+    }
+
+
+    /**
+     * Compares the content of the buffer with the previously sent data without copying the buffer.
+     * The previous data is updated with the differing bytes.
+     *
+     * @param buffer The buffer with the new data
+     * @param previous The previously sent data
+     * @return True if the content has changed
+     */
+    private static boolean updateChangedBytes (final ByteBuffer buffer, final byte [] previous)
+    {
+        boolean hasChanged = false;
+        for (int i = 0; i < previous.length; i++)
+        {
+            final byte value = buffer.get (i);
+            if (value != previous[i])
+            {
+                previous[i] = value;
+                hasChanged = true;
+            }
         }
+        return hasChanged;
     }
 
 
@@ -43,6 +43,7 @@ import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.featuregroup.FeatureGroupManager;
 import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
@@ -273,9 +274,9 @@ public class SLControllerSetup extends AbstractControllerSetup<SLControlSurface,
 
         // Volume, Track and Parameter modes are always bound since they have dedicated controls
         final ModeManager modeManager = surface.getModeManager ();
-        modeManager.get (Modes.VOLUME).onActivate ();
-        modeManager.get (Modes.TRACK).onActivate ();
-        modeManager.get (Modes.DEVICE_PARAMS).onActivate ();
+        FeatureGroupManager.activateFeatureGroup (modeManager.get (Modes.VOLUME));
+        FeatureGroupManager.activateFeatureGroup (modeManager.get (Modes.TRACK));
+        FeatureGroupManager.activateFeatureGroup (modeManager.get (Modes.DEVICE_PARAMS));
     }
 
 
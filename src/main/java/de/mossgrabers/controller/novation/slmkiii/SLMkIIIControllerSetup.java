@@ -61,6 +61,7 @@ import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
+import de.mossgrabers.framework.featuregroup.FeatureGroupManager;
 import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
@@ -389,12 +390,12 @@ public class SLMkIIIControllerSetup extends AbstractControllerSetup<SLMkIIIContr
 
         // Volume faders which can be turned off in the settings...
         final TrackVolumeMode<SLMkIIIControlSurface, SLMkIIIConfiguration> volumeMode = new TrackVolumeMode<> (surface, this.model, true, ContinuousID.createSequentialList (ContinuousID.FADER1, 8));
-        volumeMode.onActivate ();
+        FeatureGroupManager.activateFeatureGroup (volumeMode);
         this.configuration.addSettingObserver (SLMkIIIConfiguration.ENABLE_FADERS, () -> {
             if (this.configuration.areFadersEnabled ())
-                volumeMode.onActivate ();
+                FeatureGroupManager.activateFeatureGroup (volumeMode);
             else
-                volumeMode.onDeactivate ();
+                FeatureGroupManager.deactivateFeatureGroup (volumeMode);
         });
     }
 
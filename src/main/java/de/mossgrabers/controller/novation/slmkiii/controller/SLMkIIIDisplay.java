@@ -60,7 +60,22 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text, final String previousText)
     {
-        for (int i = 0; i < this.noOfCells; i++)
+        this.writeCells (row, text, 0, this.noOfCells);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeRange (final int row, final String text, final String previousText, final int start, final int end)
+    {
+        // Each cell is a separate text property, only send the ones which contain changes
+        this.writeCells (row, text, start / 9, Math.min (this.noOfCells, (end + 8) / 9));
+    }
+
+
+    private void writeCells (final int row, final String text, final int fromCell, final int toCell)
+    {
+        for (int i = fromCell; i < toCell; i++)
         {
             final int pos = 9 * i;
             final String cellText = text.substring (pos, pos + 9).trim ();
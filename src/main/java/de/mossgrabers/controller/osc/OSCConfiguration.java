@@ -4,6 +4,7 @@
 
 package de.mossgrabers.controller.osc;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -16,6 +17,7 @@ import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlConfiguration;
+import de.mossgrabers.framework.utils.Pair;
 
 
 /**
@@ -48,21 +50,22 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
-    private static final String    CATEGORY_PROTOCOL         = "Protocol (must match your client template!)";
+    private static final String               CATEGORY_PROTOCOL         = "Protocol (must match your client template!)";
 
-    private static final String [] VALUE_RESOLUTION_OPTIONS  =
+    private static final String []            VALUE_RESOLUTION_OPTIONS  =
     {
         "Low (128)",
         "Medium (1024)",
         "High (16384)"
     };
 
-    private int                    receivePort               = 8000;
-    private String                 sendHost                  = DEFAULT_SERVER;
-    private int                    sendPort                  = 9000;
-    private ValueResolution        valueResolution           = ValueResolution.LOW;
-    private int                    bankPageSize              = 8;
-    private final String []        assignableFunctionActions = new String [NUM_ASSIGNABLE_ACTIONS];
+    private int                               receivePort               = 8000;
+    private String                            sendHost                  = DEFAULT_SERVER;
+    private int                               sendPort                  = 9000;
+    private final List<Pair<String, Integer>> additionalClients         = new ArrayList<> ();
+    private ValueResolution                   valueResolution           = ValueResolution.LOW;
+    private int                               bankPageSize              = 8;
+    private final String []                   assignableFunctionActions = new String [NUM_ASSIGNABLE_ACTIONS];
 
 
     /**
@@ -100,6 +103,9 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IIntegerSetting sendPortSetting = globalSettings.getRangeSetting ("Port to send to (requires restart)", CATEGORY_SETUP, 1024, 65535, 1, "", 9000);
         this.sendPort = sendPortSetting.get ().intValue ();
 
+        final IStringSetting additionalClientsSetting = globalSettings.getStringSetting ("Additional clients, e.g. 192.168.0.2:9001 (requires restart)", CATEGORY_SETUP, 256, "");
+        this.parseAdditionalClients (additionalClientsSetting.get ());
+
         ///////////////////////////
         // Protocol
 
@@ -154,6 +160,7 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         // Debug
 
         this.activateOSCLogging (globalSettings);
+        this.activateMetricsSetting (globalSettings);
     }
 
 
@@ -190,6 +197,45 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /**
+     * Get the additional clients to which OSC messages are sent.
+     *
+     * @return The host and port of the clients
+     */
+    public List<Pair<String, Integer>> getAdditionalClients ()
+    {
+        return this.additionalClients;
+    }
+
+
+    /**
+     * Parses the additional clients from a comma separated list of 'host:port' entries.
+     *
+     * @param clients The clients text
+     */
+    private void parseAdditionalClients (final String clients)
+    {
+        for (final String client: clients.split (","))
+        {
+            final String entry = client.trim ();
+            if (entry.isEmpty ())
+                continue;
+            final int pos = entry.lastIndexOf (':');
+            try
+            {
+                if (pos <= 0)
+                    throw new NumberFormatException ();
+                final int port = Integer.parseInt (entry.substring (pos + 1).trim ());
+                this.additionalClients.add (new Pair<> (entry.substring (0, pos).trim (), Integer.valueOf (port)));
+            }
+            catch (final NumberFormatException ex)
+            {
+                this.host.error ("Additional client must be 'host:port': " + entry);
+            }
+        }
+    }
+
+
     /**
      * Get the selected value resolution.
      *
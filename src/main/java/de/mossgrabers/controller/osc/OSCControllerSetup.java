@@ -10,6 +10,7 @@ import java.util.List;
 
 import de.mossgrabers.controller.osc.module.ActionModule;
 import de.mossgrabers.controller.osc.module.BrowserModule;
+import de.mossgrabers.controller.osc.module.ClientModule;
 import de.mossgrabers.controller.osc.module.ClipModule;
 import de.mossgrabers.controller.osc.module.DeviceModule;
 import de.mossgrabers.controller.osc.module.GlobalModule;
@@ -37,8 +38,10 @@ import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.osc.OpenSoundControlSubscriptions;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
+import de.mossgrabers.framework.utils.Pair;
 
 
 /**
@@ -188,11 +191,11 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         this.keyManager = new KeyManager (this.model, this.model.getScales (), surface.getPadGrid ());
 
         // Send OSC messages
-        final String sendHost = this.configuration.getSendHost ();
-        final int sendPort = this.configuration.getSendPort ();
-        this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
-        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
-        this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
+        final OpenSoundControlSubscriptions subscriptions = new OpenSoundControlSubscriptions ();
+        this.connectClient (subscriptions, this.configuration.getSendHost (), this.configuration.getSendPort ());
+        for (final Pair<String, Integer> client: this.configuration.getAdditionalClients ())
+            this.connectClient (subscriptions, client.getKey (), client.getValue ().intValue ());
+        this.writer = new OSCWriter (this.host, this.model, subscriptions, this.configuration);
 
         // Receive OSC messages
         final OSCParser parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
@@ -210,6 +213,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         modules.add (new MidiModule (this.host, this.model, surface, this.writer, this.keyManager));
         modules.add (new ActionModule (this.host, this.model, this.writer, this.configuration));
         modules.add (new ClipModule (this.host, this.model, this.writer));
+        modules.add (new ClientModule (this.host, this.model, this.writer, subscriptions));
 
         modules.forEach (module -> {
             this.writer.registerModule (module);
@@ -220,6 +224,15 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     }
 
 
+    private void connectClient (final OpenSoundControlSubscriptions subscriptions, final String sendHost, final int sendPort)
+    {
+        this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
+        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
+        if (oscClient != null)
+            subscriptions.addClient (oscClient);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
@@ -187,6 +187,9 @@ public abstract class AbstractModule implements IModule
      */
     protected void flushParameterData (final IOpenSoundControlWriter writer, final String fxAddress, final IParameter fxParam, final boolean dump)
     {
+        if (!writer.isSubscribed (fxAddress))
+            return;
+
         final boolean isSend = fxParam instanceof ISend;
         if (isSend)
             writer.sendOSC (fxAddress + TAG_ACTIVATED, ((ISend) fxParam).isEnabled (), dump);
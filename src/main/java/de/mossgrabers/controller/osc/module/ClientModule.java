@@ -0,0 +1,109 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.module;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlSubscriptions;
+
+import java.util.LinkedList;
+
+
+/**
+ * Commands to manage the subscriptions of the clients. The clients are numbered in the order of
+ * the settings, 1 is the main client. Example: /client/2/subscribe "/track/*&#47;volume".
+ *
+ * @author Jürgen Moßgraber
+ */
+public class ClientModule extends AbstractModule
+{
+    private final OpenSoundControlSubscriptions subscriptions;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param model The model
+     * @param writer The writer
+     * @param subscriptions The subscriptions of the clients
+     */
+    public ClientModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer, final OpenSoundControlSubscriptions subscriptions)
+    {
+        super (host, model, writer);
+
+        this.subscriptions = subscriptions;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String [] getSupportedCommands ()
+    {
+        return new String []
+        {
+            "client"
+        };
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    {
+        if (!"client".equals (command))
+            throw new UnknownCommandException (command);
+
+        final String clientCommand = getSubCommand (path);
+        final int clientIndex;
+        try
+        {
+            clientIndex = Integer.parseInt (clientCommand) - 1;
+        }
+        catch (final NumberFormatException ex)
+        {
+            throw new UnknownCommandException (clientCommand);
+        }
+        if (clientIndex < 0 || clientIndex >= this.subscriptions.getNumClients ())
+            throw new IllegalParameterException ("Unknown client: " + clientCommand);
+
+        final String subCommand = getSubCommand (path);
+        switch (subCommand)
+        {
+            case "subscribe":
+                for (final Object pattern: toValues (value))
+                    this.subscriptions.subscribe (clientIndex, toString (pattern));
+                // Values of new subscriptions are not cached, send everything to the client
+                this.writer.dump (clientIndex);
+                break;
+
+            case "unsubscribe":
+                if (value == null)
+                    this.subscriptions.unsubscribeAll (clientIndex);
+                else
+                {
+                    for (final Object pattern: toValues (value))
+                        this.subscriptions.unsubscribe (clientIndex, toString (pattern));
+                }
+                break;
+
+            default:
+                throw new UnknownCommandException (subCommand);
+        }
+    }
+
+
+    private static Object [] toValues (final Object value)
+    {
+        return value instanceof final Object [] values ? values : new Object []
+        {
+            value
+        };
+    }
+}
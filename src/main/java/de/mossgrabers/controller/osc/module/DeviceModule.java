@@ -134,6 +134,9 @@ public class DeviceModule extends AbstractModule
      */
     private void flushDevice (final IOpenSoundControlWriter writer, final String deviceAddress, final ISpecificDevice device, final boolean dump)
     {
+        if (!writer.isSubscribed (deviceAddress))
+            return;
+
         writer.sendOSC (deviceAddress + TAG_EXISTS, device.doesExist (), dump);
         writer.sendOSC (deviceAddress + TAG_NAME, device.getName (), dump);
         writer.sendOSC (deviceAddress + TAG_BYPASS, !device.isEnabled (), dump);
@@ -205,7 +208,7 @@ public class DeviceModule extends AbstractModule
      */
     private void flushDeviceLayer (final IOpenSoundControlWriter writer, final String deviceAddress, final IChannel channel, final boolean dump)
     {
-        if (channel == null)
+        if (channel == null || !writer.isSubscribed (deviceAddress))
             return;
 
         writer.sendOSC (deviceAddress + TAG_EXISTS, channel.doesExist (), dump);
@@ -12,12 +12,14 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.constants.RecordQuantization;
 import de.mossgrabers.framework.daw.data.ICursorTrack;
+import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -38,6 +40,8 @@ import de.mossgrabers.framework.parameter.IParameter;
  */
 public class TrackModule extends AbstractModule
 {
+    private static final String    TAG_VU = "vu";
+
     private final OSCConfiguration configuration;
 
 
@@ -54,6 +58,67 @@ public class TrackModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        this.addTrackObservers (model.getTrackBank ());
+        this.addTrackObservers (model.getEffectTrackBank ());
+        model.addTrackBankObserver (trackBank -> writer.markDirty ("/track/"));
+
+        final IMasterTrack masterTrack = model.getMasterTrack ();
+        masterTrack.addSelectionObserver ( (index, isSelected) -> writer.markDirty ("/master/"));
+        this.addChangeObservers ("/master/", masterTrack);
+        this.addChangeObservers ("/track/selected/", model.getCursorTrack ());
+
+        // The VU values are sent as 0 if disabled
+        configuration.addSettingObserver (AbstractConfiguration.ENABLE_VU_METERS, () -> writer.markDirty ("/"));
+    }
+
+
+    /**
+     * Mark the tracks of the bank as dirty if any of their values has changed. The position of
+     * a track changes if the bank is scrolled or tracks are inserted, removed or moved.
+     *
+     * @param trackBank The track bank to observe, might be null
+     */
+    private void addTrackObservers (final ITrackBank trackBank)
+    {
+        if (trackBank == null)
+            return;
+
+        trackBank.addPageObserver ( () -> this.writer.markDirty ("/track/"));
+        trackBank.addScrollPositionObserver (position -> this.writer.markDirty ("/track/"));
+        trackBank.addSelectionObserver ( (index, isSelected) -> {
+            this.writer.markDirty ("/track/" + (index + 1) + "/");
+            this.writer.markDirty ("/track/selected/");
+        });
+        for (int i = 0; i < trackBank.getPageSize (); i++)
+            this.addChangeObservers ("/track/" + (i + 1) + "/", trackBank.getItem (i));
+    }
+
+
+    /**
+     * Mark the address of a track as dirty if any of its values has changed, and the address of a
+     * clip if any of the values of the slot has changed.
+     *
+     * @param trackAddress The start address for the track
+     * @param track The track to observe
+     */
+    private void addChangeObservers (final String trackAddress, final ITrack track)
+    {
+        track.addChangeObserver ( () -> this.writer.markDirty (trackAddress));
+
+        // The VU meters change continuously during playback, therefore they are marked separately
+        final String vuAddress = trackAddress + TAG_VU + "/";
+        track.addVuMeterChangeObserver ( () -> {
+            if (this.configuration.isEnableVUMeters ())
+                this.writer.markDirty (vuAddress);
+        });
+
+        final ISlotBank slotBank = track.getSlotBank ();
+        for (int i = 0; i < slotBank.getPageSize (); i++)
+        {
+            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
+            slotBank.getItem (i).addChangeObserver ( () -> this.writer.markDirty (clipAddress));
+        }
     }
 
 
@@ -113,6 +178,8 @@ public class TrackModule extends AbstractModule
 
         // Flush track parameters
         final String paramAddress = "/track/param/";
+        if (!this.writer.isSubscribed (paramAddress) && !this.writer.isSubscribed ("/track/page/"))
+            return;
         final IParameterBank parameterBank = this.model.getCursorTrack ().getParameterBank ();
         for (int i = 0; i < parameterBank.getPageSize (); i++)
         {
@@ -146,14 +213,63 @@ public class TrackModule extends AbstractModule
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
     private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    {
+        if (!writer.isSubscribed (trackAddress))
+            return;
+
+        // Only evaluate the values of the track if one of its observers has reported a change
+        final boolean isDirty = dump || writer.isDirty (trackAddress);
+        if (isDirty)
+            this.flushTrackValues (writer, trackAddress, track, dump);
+        else if (writer.isDirty (trackAddress + TAG_VU + "/"))
+            this.flushVuMeter (writer, trackAddress, track, dump);
+
+        final ISlotBank slotBank = track.getSlotBank ();
+        for (int i = 0; i < slotBank.getPageSize (); i++)
+        {
+            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
+            if (!writer.isSubscribed (clipAddress) || !dump && !writer.isDirty (clipAddress))
+                continue;
+            final ISlot slot = slotBank.getItem (i);
+            writer.sendOSC (clipAddress + TAG_NAME, slot.getName (), dump);
+            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
+            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
+            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
+            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
+            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
+            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
+            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+
+            final ColorEx color = slot.getColor ();
+            writer.sendOSCColor (clipAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        }
+
+        // Global setting, not covered by the observers of the track
+        writer.sendOSC (trackAddress + "recordQuantization", track.getRecordQuantizationGrid ().getValue (), dump);
+    }
+
+
+    /**
+     * Flush the values of a track, which are covered by its observers.
+     *
+     * @param writer Where to send the messages to
+     * @param trackAddress The start address for the track
+     * @param track The track
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushTrackValues (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
     {
         writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
         final ChannelType type = track.getType ();
         writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (Locale.US), dump);
         writer.sendOSC (trackAddress + TAG_ACTIVATED, track.isActivated (), dump);
-        writer.sendOSC (trackAddress + TAG_SELECTED, track.isSelected (), dump);
         writer.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
+        writer.sendOSC (trackAddress + TAG_SELECTED, track.isSelected (), dump);
         writer.sendOSC (trackAddress + TAG_NAME, track.getName (), dump);
+        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        final ColorEx color = track.getColor ();
+        writer.sendOSCColor (trackAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+
         writer.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
         writer.sendOSC (trackAddress + TAG_VOLUME, track.getVolume (), dump);
         writer.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
@@ -165,7 +281,6 @@ public class TrackModule extends AbstractModule
         writer.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
         writer.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
         writer.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
 
         if (track instanceof final ICursorTrack cursorTrack)
             writer.sendOSC (trackAddress + "pinned", cursorTrack.isPinned (), dump);
@@ -174,35 +289,18 @@ public class TrackModule extends AbstractModule
         for (int i = 0; i < sendBank.getPageSize (); i++)
             this.flushParameterData (writer, trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
 
-        final ISlotBank slotBank = track.getSlotBank ();
-        for (int i = 0; i < slotBank.getPageSize (); i++)
-        {
-            final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            writer.sendOSC (clipAddress + TAG_NAME, slot.getName (), dump);
-            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
-
-            final ColorEx color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
-        }
-
-        final ColorEx color = track.getColor ();
-        writer.sendOSCColor (trackAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
-
         final String crossfadeMode = track.getCrossfadeParameter ().getDisplayedValue ();
         writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
         writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
         writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
 
-        writer.sendOSC (trackAddress + "recordQuantization", track.getRecordQuantizationGrid ().getValue (), dump);
+        this.flushVuMeter (writer, trackAddress, track, dump);
+    }
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+
+    private void flushVuMeter (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    {
+        writer.sendOSC (trackAddress + TAG_VU, this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
     }
 
 
@@ -300,7 +398,7 @@ public class TrackModule extends AbstractModule
                 this.model.getCurrentTrackBank ().stop ("stopAlt".equals (command));
                 break;
 
-            case "vu":
+            case TAG_VU:
                 this.configuration.setVUMetersEnabled (isTrigger (value));
                 break;
 
@@ -9,7 +9,7 @@ import de.mossgrabers.controller.osc.module.IModule;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlWriter;
-import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.OpenSoundControlSubscriptions;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -41,12 +41,12 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      *
      * @param host The host
      * @param model The model
-     * @param oscClient The OSC client to write to
+     * @param subscriptions The OSC clients to write to and the addresses they subscribed to
      * @param configuration The configuration
      */
-    public OSCWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final OSCConfiguration configuration)
+    public OSCWriter (final IHost host, final IModel model, final OpenSoundControlSubscriptions subscriptions, final OSCConfiguration configuration)
     {
-        super (host, model, oscClient, configuration);
+        super (host, model, subscriptions, configuration);
     }
 
 
@@ -57,6 +57,7 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         if (!this.isConnected ())
             return;
         this.modules.forEach (module -> module.flush (dump));
+        this.clearDirty ();
         this.flush ("/update");
     }
 
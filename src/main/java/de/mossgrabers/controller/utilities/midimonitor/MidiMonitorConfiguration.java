@@ -19,9 +19,53 @@ import de.mossgrabers.framework.daw.IHost;
 public class MidiMonitorConfiguration extends AbstractConfiguration
 {
     /** Setting for filtering system real-time. */
-    public static final Integer FILTER_SYSTEM_REALTIME   = Integer.valueOf (50);
+    public static final Integer      FILTER_SYSTEM_REALTIME   = Integer.valueOf (50);
+    /** Setting for filtering by the MIDI status. */
+    public static final Integer      FILTER_STATUS            = Integer.valueOf (51);
+    /** Setting for filtering by the MIDI channel. */
+    public static final Integer      FILTER_CHANNEL           = Integer.valueOf (52);
 
-    private boolean             isFilterSystemRealtimeOn = false;
+    /** Indicates that all MIDI status or channels should be displayed. */
+    public static final int          FILTER_ALL               = -1;
+    /** Pseudo status value for system exclusive messages, which is not a valid MIDI status. */
+    public static final int          STATUS_SYSEX             = 0x100;
+
+    private static final String []   STATUS_FILTER_OPTIONS    =
+    {
+        "All",
+        "Note On/Off",
+        "Polyphonic Key Pressure",
+        "CC",
+        "Program Change",
+        "Channel Pressure",
+        "Pitchbend",
+        "System",
+        "System Exclusive"
+    };
+
+    private static final int []      STATUS_FILTER_VALUES     =
+    {
+        FILTER_ALL,
+        0x90,
+        0xA0,
+        0xB0,
+        0xC0,
+        0xD0,
+        0xE0,
+        0xF0,
+        STATUS_SYSEX
+    };
+
+    private static final String []   CHANNEL_FILTER_OPTIONS   = new String [17];
+    static
+    {
+        CHANNEL_FILTER_OPTIONS[0] = "All";
+        System.arraycopy (OPTIONS_MIDI_CHANNEL, 0, CHANNEL_FILTER_OPTIONS, 1, OPTIONS_MIDI_CHANNEL.length);
+    }
+
+    private boolean                  isFilterSystemRealtimeOn = false;
+    private volatile int             statusFilterIndex        = 0;
+    private volatile int             channelFilter            = FILTER_ALL;
 
 
     /**
@@ -46,6 +90,20 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
             this.notifyObservers (FILTER_SYSTEM_REALTIME);
         });
         this.isSettingActive.add (FILTER_SYSTEM_REALTIME);
+
+        final IEnumSetting filterStatusSetting = globalSettings.getEnumSetting ("Status", "Filter", STATUS_FILTER_OPTIONS, STATUS_FILTER_OPTIONS[0]);
+        filterStatusSetting.addValueObserver (value -> {
+            this.statusFilterIndex = Math.max (0, lookupIndex (STATUS_FILTER_OPTIONS, value));
+            this.notifyObservers (FILTER_STATUS);
+        });
+        this.isSettingActive.add (FILTER_STATUS);
+
+        final IEnumSetting filterChannelSetting = globalSettings.getEnumSetting ("MIDI Channel", "Filter", CHANNEL_FILTER_OPTIONS, CHANNEL_FILTER_OPTIONS[0]);
+        filterChannelSetting.addValueObserver (value -> {
+            this.channelFilter = Math.max (0, lookupIndex (CHANNEL_FILTER_OPTIONS, value)) - 1;
+            this.notifyObservers (FILTER_CHANNEL);
+        });
+        this.isSettingActive.add (FILTER_CHANNEL);
     }
 
 
@@ -58,4 +116,27 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
     {
         return this.isFilterSystemRealtimeOn;
     }
+
+
+    /**
+     * Test if a MIDI event passes the status and channel filters.
+     *
+     * @param status The MIDI status byte, use STATUS_SYSEX for system exclusive messages
+     * @return True if the event should be displayed
+     */
+    public boolean isAccepted (final int status)
+    {
+        final int statusFilter = STATUS_FILTER_VALUES[this.statusFilterIndex];
+        if (status == STATUS_SYSEX)
+            return statusFilter == FILTER_ALL || statusFilter == STATUS_SYSEX;
+
+        // Note off is displayed together with note on
+        final int code = status & 0xF0;
+        if (statusFilter != FILTER_ALL && statusFilter != (code == 0x80 ? 0x90 : code))
+            return false;
+
+        // Channel filter does not apply to system messages
+        final int channel = this.channelFilter;
+        return channel == FILTER_ALL || code == 0xF0 || (status & 0x0F) == channel;
+    }
 }
@@ -0,0 +1,134 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.midimonitor.controller;
+
+import de.mossgrabers.framework.daw.midi.MidiShortCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A lock-free ring buffer for raw MIDI events. There must only be one thread which adds events
+ * (the MIDI input callback) and one thread which drains them. If the buffer is full, new events
+ * are dropped and counted.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class MidiEventRingBuffer
+{
+    private final int []        shortMessages;
+    private final String []     sysexMessages;
+    private final int           mask;
+    private final AtomicLong    writePosition = new AtomicLong ();
+    private final AtomicLong    readPosition  = new AtomicLong ();
+    private final AtomicInteger overflowCount = new AtomicInteger ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum number of events which can be buffered, must be a power of 2
+     */
+    public MidiEventRingBuffer (final int capacity)
+    {
+        if (Integer.bitCount (capacity) != 1)
+            throw new IllegalArgumentException ("Capacity must be a power of 2.");
+
+        this.shortMessages = new int [capacity];
+        this.sysexMessages = new String [capacity];
+        this.mask = capacity - 1;
+    }
+
+
+    /**
+     * Add a MIDI short message.
+     *
+     * @param status The MIDI status byte
+     * @param data1 The MIDI data byte 1
+     * @param data2 The MIDI data byte 2
+     * @return True if added, false if the buffer is full
+     */
+    public boolean addShortMessage (final int status, final int data1, final int data2)
+    {
+        return this.add (status << 16 | (data1 & 0xFF) << 8 | data2 & 0xFF, null);
+    }
+
+
+    /**
+     * Add a chunk of a system exclusive message.
+     *
+     * @param data The system exclusive data formatted in hex
+     * @return True if added, false if the buffer is full
+     */
+    public boolean addSysex (final String data)
+    {
+        return this.add (0, data);
+    }
+
+
+    /**
+     * Removes all buffered events and hands them to the callbacks in the order they were added.
+     *
+     * @param shortCallback The callback for short messages
+     * @param sysexCallback The callback for system exclusive messages
+     * @return The number of drained events
+     */
+    public int drain (final MidiShortCallback shortCallback, final MidiSysExCallback sysexCallback)
+    {
+        final long read = this.readPosition.get ();
+        final long write = this.writePosition.get ();
+
+        long position = read;
+        while (position < write)
+        {
+            final int index = (int) position & this.mask;
+            final String sysex = this.sysexMessages[index];
+            if (sysex == null)
+            {
+                final int message = this.shortMessages[index];
+                shortCallback.handleMidi (message >> 16, message >> 8 & 0xFF, message & 0xFF);
+            }
+            else
+            {
+                this.sysexMessages[index] = null;
+                sysexCallback.handleMidi (sysex);
+            }
+            position++;
+        }
+
+        this.readPosition.lazySet (position);
+        return (int) (position - read);
+    }
+
+
+    /**
+     * Get the number of events which were dropped since the last call and reset the counter.
+     *
+     * @return The number of dropped events
+     */
+    public int getAndResetOverflowCount ()
+    {
+        return this.overflowCount.getAndSet (0);
+    }
+
+
+    private boolean add (final int shortMessage, final String sysex)
+    {
+        final long write = this.writePosition.get ();
+        if (write - this.readPosition.get () > this.mask)
+        {
+            this.overflowCount.incrementAndGet ();
+            return false;
+        }
+
+        final int index = (int) write & this.mask;
+        this.shortMessages[index] = shortMessage;
+        this.sysexMessages[index] = sysex;
+        this.writePosition.lazySet (write + 1);
+        return true;
+    }
+}
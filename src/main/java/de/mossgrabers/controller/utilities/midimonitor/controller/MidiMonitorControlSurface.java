@@ -10,37 +10,37 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.scale.Scales;
-import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 
 /**
- * The Midi Monitor control surface.
+ * The Midi Monitor control surface. The received MIDI events are only stored in a ring buffer on
+ * the MIDI input callback. Draining and formatting is done on a background thread. Since the host
+ * must only be used from the controller thread, the formatted lines are handed over and only
+ * printed from the timer service.
  *
  * @author Jürgen Moßgraber
  */
 public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonitorConfiguration>
 {
-    private static final String [] SPACES           =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         ",
-        "          ",
-        "           ",
-        "            ",
-        "             "
-    };
-
-    private boolean                printHeader      = true;
-    private boolean                printSysexHeader = true;
-    private int                    sysexLengthCount = 0;
+    private static final char []           HEX_DIGITS       = "0123456789ABCDEF".toCharArray ();
+    private static final int               BUFFER_SIZE      = 8192;
+    private static final long              DRAIN_INTERVAL   = 20;
+
+    private final MidiEventRingBuffer      eventBuffer      = new MidiEventRingBuffer (BUFFER_SIZE);
+    private final ScheduledExecutorService logExecutor      = Executors.newSingleThreadScheduledExecutor ();
+    private final StringBuilder            line             = new StringBuilder (128);
+    private final StringBuilder            output           = new StringBuilder (1024);
+    private final Queue<String>            formattedOutputs = new ConcurrentLinkedQueue<> ();
+
+    private boolean                        printHeader      = true;
+    private boolean                        printSysexHeader = true;
+    private int                            sysexLengthCount = 0;
 
 
     /**
@@ -55,12 +55,108 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
         super (host, configuration, null, null, input, null, 10, 10);
 
         this.input.setSysexCallback (this::handleSysEx);
+
+        this.logExecutor.scheduleWithFixedDelay (this::drainEvents, DRAIN_INTERVAL, DRAIN_INTERVAL, TimeUnit.MILLISECONDS);
+        host.getTimerService ().schedulePeriodic (this, this::printOutputs, DRAIN_INTERVAL);
     }
 
 
     /** {@inheritDoc} */
     @Override
     protected void handleMidi (final int status, final int data1, final int data2)
+    {
+        if ((status & 0xF0) == MidiConstants.CMD_SYSTEM && this.configuration.isFilterSystemRealtimeEnabled ())
+            return;
+        if (this.configuration.isAccepted (status))
+            this.eventBuffer.addShortMessage (status, data1, data2);
+    }
+
+
+    /**
+     * Handle MIDI system exclusive messages. Note: this can be called multiple times in chunks of
+     * 1024 bytes!
+     *
+     * @param dataStr The data formatted as hexadecimal numbers
+     */
+    private void handleSysEx (final String dataStr)
+    {
+        if (this.configuration.isAccepted (MidiMonitorConfiguration.STATUS_SYSEX))
+            this.eventBuffer.addSysex (dataStr);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void internalShutdown ()
+    {
+        this.logExecutor.shutdown ();
+        try
+        {
+            if (this.logExecutor.awaitTermination (1, TimeUnit.SECONDS))
+                this.drainEvents ();
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+
+        this.host.getTimerService ().cancel (this);
+        this.printOutputs ();
+
+        super.internalShutdown ();
+    }
+
+
+    /**
+     * Format all buffered events and hand them over for printing. Called on the logging thread.
+     */
+    private void drainEvents ()
+    {
+        try
+        {
+            this.eventBuffer.drain (this::logShortMessage, this::logSysEx);
+
+            final int dropped = this.eventBuffer.getAndResetOverflowCount ();
+            if (dropped > 0)
+                this.addLine ("| ... " + dropped + " events dropped (monitor buffer overflow)");
+        }
+        catch (final RuntimeException ex)
+        {
+            this.addLine ("Could not log MIDI events: " + ex.getMessage ());
+        }
+
+        final int length = this.output.length ();
+        if (length == 0)
+            return;
+        // Remove the last line break, since it is added by the host
+        this.formattedOutputs.add (this.output.substring (0, length - 1));
+        this.output.setLength (0);
+    }
+
+
+    /**
+     * Print the formatted events. Called from the timer service.
+     */
+    private void printOutputs ()
+    {
+        String text;
+        while ((text = this.formattedOutputs.poll ()) != null)
+            this.host.println (text);
+    }
+
+
+    /**
+     * Add a line to the output of the current drain. Called on the logging thread.
+     *
+     * @param text The text of the line
+     */
+    private void addLine (final String text)
+    {
+        this.output.append (text).append ('\n');
+    }
+
+
+    private void logShortMessage (final int status, final int data1, final int data2)
     {
         final int code = status & 0xF0;
         final int channel = status & 0xF;
@@ -96,63 +192,60 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
                 break;
 
             case MidiConstants.CMD_SYSTEM:
-                if (!this.configuration.isFilterSystemRealtimeEnabled ())
-                    this.log (status, data1, data2, channel, MidiConstants.getSysexNames ()[channel]);
+                this.log (status, data1, data2, channel, MidiConstants.getSysexNames ()[channel]);
                 break;
 
             default:
-                this.host.println ("Unhandled MIDI status: " + status);
+                this.addLine ("Unhandled MIDI status: " + status);
                 break;
         }
     }
 
 
-    /**
-     * Handle MIDI system exclusive messages. Note: this can be called multiple times in chunks of
-     * 1024 bytes!
-     *
-     * @param dataStr The data formatted as hexadecimal numbers
-     */
-    private void handleSysEx (final String dataStr)
+    private void logSysEx (final String dataStr)
     {
         if (this.printSysexHeader)
         {
             this.printHeader = true;
             this.printSysexHeader = false;
-            this.host.println ("");
-            this.host.println ("| SYSEX");
-            this.host.println ("|-----------------------------------------------------------------------");
+            this.addLine ("");
+            this.addLine ("| SYSEX");
+            this.addLine ("|-----------------------------------------------------------------------");
         }
 
-        final int [] data = StringUtils.fromHexStr (dataStr);
-        if (data.length == 0)
+        final int length = dataStr.length () / 2;
+        if (length == 0)
             return;
 
-        if (data[0] == 0xF0)
+        final int first = parseHex (dataStr, 0);
+        final int last = parseHex (dataStr, length - 1);
+        if (first == 0xF0)
             this.sysexLengthCount = 0;
-        this.sysexLengthCount += data.length;
+        this.sysexLengthCount += length;
 
-        StringBuilder sb = new StringBuilder ("| ");
-        for (int i = 0; i < data.length; i++)
+        this.line.setLength (0);
+        this.line.append ("| ");
+        for (int i = 0; i < length; i++)
         {
-            sb.append (String.format ("%02X", Integer.valueOf (data[i])));
+            this.appendHex (parseHex (dataStr, i));
 
             if (i != 0 && (i + 1) % 16 == 0)
             {
-                this.host.println (sb.toString ());
-                sb = new StringBuilder ("| ");
+                this.output.append (this.line).append ('\n');
+                this.line.setLength (0);
+                this.line.append ("| ");
             }
             else
-                sb.append (' ');
+                this.line.append (' ');
         }
 
-        if (data[data.length - 1] == 0xF7)
+        if (last == 0xF7)
         {
-            if (this.sysexLengthCount == data.length && data.length == 6 && data[0] == 0xF0 && data[1] == 0x7F && data[3] == 0x06 && data[5] == 0xF7)
-                sb.append (" - MMC ").append (MidiConstants.getMMCNames ()[data[4]]);
+            if (this.sysexLengthCount == length && length == 6 && first == 0xF0 && parseHex (dataStr, 1) == 0x7F && parseHex (dataStr, 3) == 0x06)
+                this.line.append (" - MMC ").append (MidiConstants.getMMCNames ()[parseHex (dataStr, 4)]);
             else
-                sb.append ("(" + this.sysexLengthCount + " bytes)");
-            this.host.println (sb.toString ());
+                this.line.append ('(').append (this.sysexLengthCount).append (" bytes)");
+            this.output.append (this.line).append ('\n');
         }
     }
 
@@ -163,30 +256,69 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
         {
             this.printSysexHeader = true;
             this.printHeader = false;
-            this.host.println ("");
-            this.host.println ("| STATUS | DATA 1 | DATA 2 | CHAN | EVENT");
-            this.host.println ("|--------|--------|--------|------|-------------------------------------");
+            this.addLine ("");
+            this.addLine ("| STATUS | DATA 1 | DATA 2 | CHAN | EVENT");
+            this.addLine ("|--------|--------|--------|------|-------------------------------------");
         }
-        this.host.println ("| " + padNumber (status, 2, true) + " " + padNumber (status, 3, false) + " | " + padNumber (data1, 2, true) + " " + padNumber (data1, 3, false) + " | " + padNumber (data2, 2, true) + " " + padNumber (data2, 3, false) + " | " + padNumber (channel + 1, 4, false) + " | " + text);
+
+        this.line.setLength (0);
+        this.line.append ("| ");
+        this.appendHexAndDecimal (status);
+        this.line.append (" | ");
+        this.appendHexAndDecimal (data1);
+        this.line.append (" | ");
+        this.appendHexAndDecimal (data2);
+        this.line.append (" | ");
+        this.appendDecimal (channel + 1, 4);
+        this.line.append (" | ").append (text);
+        this.output.append (this.line).append ('\n');
+    }
+
+
+    private void appendHexAndDecimal (final int number)
+    {
+        this.appendHex (number);
+        this.line.append (' ');
+        this.appendDecimal (number, 3);
+    }
+
+
+    /**
+     * Append the number formatted as a 2 digit upper-case hex number.
+     *
+     * @param number The number to format, 0-255
+     */
+    private void appendHex (final int number)
+    {
+        this.line.append (HEX_DIGITS[number >> 4 & 0xF]).append (HEX_DIGITS[number & 0xF]);
+    }
+
+
+    /**
+     * Append the number formatted as a decimal, padded with spaces on the left to the given length.
+     *
+     * @param number The number to format, 0-999
+     * @param length The length to pad to
+     */
+    private void appendDecimal (final int number, final int length)
+    {
+        final int digits = number >= 100 ? 3 : number >= 10 ? 2 : 1;
+        for (int i = digits; i < length; i++)
+            this.line.append (' ');
+        this.line.append (number);
     }
 
 
     /**
-     * Format the given number as text and pad it so the string has the given length.
+     * Parse one byte of a string with hex encoded bytes.
      *
-     * @param number The number to format (as a hex number)
-     * @param length The maximum length
-     * @param asHex If true format as hex otherwise as decimal
-     * @return The padded text
+     * @param data The hex encoded bytes, 2 characters per byte without spaces
+     * @param index The index of the byte
+     * @return The value of the byte
      */
-    private static String padNumber (final int number, final int length, final boolean asHex)
+    private static int parseHex (final String data, final int index)
     {
-        final String text = asHex ? String.format ("%02X", Integer.valueOf (number)) : Integer.toString (number);
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return SPACES[diff] + text;
-        return text;
+        final int pos = index * 2;
+        return Character.digit (data.charAt (pos), 16) << 4 | Character.digit (data.charAt (pos + 1), 16);
     }
-}
\ No newline at end of file
+}
@@ -42,6 +42,7 @@ import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.featuregroup.FeatureGroupManager;
 import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
@@ -315,7 +316,7 @@ public class YaeltexTurnControllerSetup extends AbstractControllerSetup<YaeltexT
             this.addFader (continuousID, "Fader " + number, null, BindType.CC, 15, YaeltexTurnControlSurface.FADER1 + i).setIndexInGroup (i);
         }
 
-        new TrackVolumeMode<> (surface, this.model, true, ContinuousID.createSequentialList (ContinuousID.FADER1, 8)).onActivate ();
+        FeatureGroupManager.activateFeatureGroup (new TrackVolumeMode<> (surface, this.model, true, ContinuousID.createSequentialList (ContinuousID.FADER1, 8)));
     }
 
 
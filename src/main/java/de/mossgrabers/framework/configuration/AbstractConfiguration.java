@@ -4,6 +4,8 @@
 
 package de.mossgrabers.framework.configuration;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -26,6 +28,9 @@ import de.mossgrabers.framework.daw.data.bank.IDeviceBank;
 import de.mossgrabers.framework.daw.data.bank.IDrumPadBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
+import de.mossgrabers.framework.daw.midi.MidiRecorder;
+import de.mossgrabers.framework.daw.midi.MidiRecording;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
 import de.mossgrabers.framework.observer.ISettingObserver;
 import de.mossgrabers.framework.scale.Scale;
 import de.mossgrabers.framework.scale.ScaleLayout;
@@ -1683,6 +1688,70 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the setting to print the flush durations and the sent MIDI / USB data to the
+     * console. The metrics are reset afterwards, therefore each print shows the metrics since the
+     * previous one.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateMetricsSetting (final ISettingsUI settingsUI)
+    {
+        settingsUI.getSignalSetting ("Metrics", CATEGORY_DEBUG, "Print and reset").addSignalObserver (value -> {
+            final MetricsRegistry metrics = MetricsRegistry.getInstance ();
+            this.host.println (metrics.format ());
+            metrics.reset ();
+        });
+    }
+
+
+    /**
+     * Activate the settings to record the MIDI messages which are received and sent by the
+     * controllers and to replay the received ones. The recording is stored in the temporary folder.
+     * After a replay the sent messages are compared with the recorded ones and the result is
+     * printed to the console.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateMidiRecordingSetting (final ISettingsUI settingsUI)
+    {
+        final File file = new File (System.getProperty ("java.io.tmpdir"), "DrivenByMoss-MIDI-recording.txt");
+        final MidiRecorder recorder = MidiRecorder.getInstance ();
+
+        settingsUI.getSignalSetting ("Record MIDI", CATEGORY_DEBUG, "Start").addSignalObserver (value -> {
+            if (recorder.startRecording ())
+                this.host.println ("MIDI recording started.");
+        });
+
+        settingsUI.getSignalSetting ("Stop MIDI recording", CATEGORY_DEBUG, "Stop and save").addSignalObserver (value -> {
+            final MidiRecording recording = recorder.stopRecording ();
+            if (recording == null)
+                return;
+            try
+            {
+                recording.save (file);
+                this.host.println ("MIDI recording stored in " + file.getAbsolutePath ());
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not store the MIDI recording.", ex);
+            }
+        });
+
+        settingsUI.getSignalSetting ("Replay MIDI", CATEGORY_DEBUG, "Replay and compare").addSignalObserver (value -> {
+            try
+            {
+                if (!recorder.replay (MidiRecording.load (file), this.host))
+                    this.host.println ("Stop the MIDI recording or replay first.");
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not load the MIDI recording.", ex);
+            }
+        });
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void notifyAllObservers ()
@@ -41,10 +41,13 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
+import de.mossgrabers.framework.daw.midi.MidiRecorder;
 import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.metrics.Histogram;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.Views;
 
@@ -101,6 +104,12 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     protected boolean                                     isShuttingDown                 = false;
 
+    private final Histogram                               flushDuration;
+    private final Histogram                               viewControlsDuration;
+    private final Histogram                               gridDuration;
+    private final Histogram                               hardwareDuration;
+    private final String                                  recorderName;
+
 
     /**
      * Constructor.
@@ -172,6 +181,16 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         if (this.input != null)
             this.input.setMidiCallback (this::handleMidi);
 
+        final MetricsRegistry metrics = MetricsRegistry.getInstance ();
+        final String metricsName = metrics.getInstanceName (this.getClass ().getSimpleName ().replace ("ControlSurface", "") + " " + (surfaceID + 1));
+        this.flushDuration = metrics.getHistogram (metricsName + " flush");
+        this.viewControlsDuration = metrics.getHistogram (metricsName + " flush view controls");
+        this.gridDuration = metrics.getHistogram (metricsName + " flush grid");
+        this.hardwareDuration = metrics.getHistogram (metricsName + " flush hardware");
+        if (this.output != null)
+            this.output.registerMetrics (metricsName);
+        this.recorderName = MidiRecorder.getInstance ().register (metricsName, this.input, this.output);
+
         this.createPads ();
         this.createLightGuide ();
     }
@@ -790,6 +809,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
                 return;
         }
 
+        final long start = System.nanoTime ();
         try
         {
             this.internalFlushHandler ();
@@ -798,6 +818,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         {
             this.host.error ("Crash during flush.", ex);
         }
+        this.flushDuration.recordSince (start);
 
         synchronized (this.updateCounterLock)
         {
@@ -814,9 +835,13 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     protected void internalFlushHandler ()
     {
+        long time = System.nanoTime ();
         this.updateViewControls ();
+        time = this.viewControlsDuration.recordSince (time);
         this.updateGrid ();
+        time = this.gridDuration.recordSince (time);
         this.flushHardware ();
+        this.hardwareDuration.recordSince (time);
     }
 
 
@@ -835,6 +860,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.isShuttingDown = true;
         this.internalShutdown ();
         this.flushHardware ();
+        MidiRecorder.getInstance ().unregister (this.recorderName);
     }
 
 
@@ -861,12 +861,18 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
      */
     protected void addLight (final S surface, final OutputID outputID, final ButtonID buttonID, final IHwButton button, final BindType bindType, final int midiChannel, final int midiControl, final IntSupplier supplier, final String... colorIds)
     {
+        // Resolve the color IDs once, the light is updated on every flush
+        final int offHandle = this.colorManager.getColorHandle (ColorManager.BUTTON_STATE_OFF);
+        final int [] colorHandles = new int [colorIds == null ? 0 : colorIds.length];
+        for (int i = 0; i < colorHandles.length; i++)
+            colorHandles[i] = this.colorManager.getColorHandle (colorIds[i]);
+
         surface.createLight (outputID, () -> {
             final int state = supplier.getAsInt ();
             // Color is the state if there are no colors provided!
-            if (colorIds == null || colorIds.length == 0)
+            if (colorHandles.length == 0)
                 return state;
-            return this.colorManager.getColorIndex (state < 0 ? ColorManager.BUTTON_STATE_OFF : colorIds[state]);
+            return this.colorManager.getColorIndex (state < 0 ? offHandle : colorHandles[state]);
         }, color -> surface.setTrigger (bindType, midiChannel, midiControl, color), state -> this.colorManager.getColor (state, buttonID), button);
     }
 
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.controller.color;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -15,6 +16,10 @@ import de.mossgrabers.framework.daw.DAWColor;
  * Manages colors. Color indices can be identified by a text identifier. The second lookup handles
  * the mapping from color indices to the real color values as ColorEx objects.
  *
+ * Since the colors are looked up on every update of the lights, both lookups are stored in arrays.
+ * A text identifier can be resolved once to a handle, e.g. when a view is created, which then
+ * gives the color index with a simple array access.
+ *
  * @author Jürgen Moßgraber
  */
 public class ColorManager
@@ -26,8 +31,14 @@ public class ColorManager
     /** ID for color when button is highlighted. */
     public static final String            BUTTON_STATE_HI  = "BUTTON_STATE_HI";
 
-    protected final Map<String, Integer>  colorIndexByKey  = new HashMap<> ();
-    protected final Map<Integer, ColorEx> colorByIndex     = new HashMap<> ();
+    private static final int              UNREGISTERED     = Integer.MIN_VALUE;
+
+    protected final ColorEx []            colorByIndex     = new ColorEx [128];
+
+    private final Map<String, Integer>    handleByKey      = new HashMap<> ();
+    private String []                     keyByHandle      = new String [64];
+    private int []                        indexByHandle    = new int [64];
+    private int                           numHandles       = 0;
 
 
     /**
@@ -38,7 +49,8 @@ public class ColorManager
      */
     public void registerColorIndex (final String key, final int colorIndex)
     {
-        if (this.colorIndexByKey.containsKey (key))
+        final Integer handle = this.handleByKey.get (key);
+        if (handle != null && this.indexByHandle[handle.intValue ()] != UNREGISTERED)
             throw new ColorIndexException ("Color for key " + key + " is already registered!");
         this.updateColorIndex (key, colorIndex);
     }
@@ -52,7 +64,8 @@ public class ColorManager
      */
     public void updateColorIndex (final String key, final int colorIndex)
     {
-        this.colorIndexByKey.put (key, Integer.valueOf (colorIndex));
+        final int handle = this.getColorHandle (key);
+        this.indexByHandle[handle] = colorIndex;
     }
 
 
@@ -76,10 +89,52 @@ public class ColorManager
      */
     public int getColorIndex (final String key)
     {
-        final Integer colorIndex = this.colorIndexByKey.get (key);
-        if (colorIndex == null)
+        final Integer handle = this.handleByKey.get (key);
+        if (handle == null)
             throw new ColorIndexException ("Color for key " + key + " is not registered!");
-        return colorIndex.intValue ();
+        return this.getColorIndex (handle.intValue ());
+    }
+
+
+    /**
+     * Get the handle for the given key. The handle stays valid if the color index of the key is
+     * updated. The key does not need to be registered yet but it must be registered before the
+     * color index is requested.
+     *
+     * @param key The key
+     * @return The handle to use with getColorIndex (int)
+     */
+    public int getColorHandle (final String key)
+    {
+        final Integer handle = this.handleByKey.get (key);
+        if (handle != null)
+            return handle.intValue ();
+
+        if (this.numHandles == this.indexByHandle.length)
+        {
+            this.keyByHandle = Arrays.copyOf (this.keyByHandle, this.numHandles * 2);
+            this.indexByHandle = Arrays.copyOf (this.indexByHandle, this.numHandles * 2);
+        }
+        final int newHandle = this.numHandles++;
+        this.keyByHandle[newHandle] = key;
+        this.indexByHandle[newHandle] = UNREGISTERED;
+        this.handleByKey.put (key, Integer.valueOf (newHandle));
+        return newHandle;
+    }
+
+
+    /**
+     * Get the color index which is registered with the key of the given handle.
+     *
+     * @param handle The handle, see getColorHandle
+     * @return The color index
+     */
+    public int getColorIndex (final int handle)
+    {
+        final int colorIndex = this.indexByHandle[handle];
+        if (colorIndex == UNREGISTERED)
+            throw new ColorIndexException ("Color for key " + this.keyByHandle[handle] + " is not registered!");
+        return colorIndex;
     }
 
 
@@ -93,7 +148,7 @@ public class ColorManager
     {
         if (colorIndex < 0 || colorIndex > 127)
             throw new ColorIndexException ("Color index must be in the range of 0..127!");
-        this.colorByIndex.put (Integer.valueOf (colorIndex), color);
+        this.colorByIndex[colorIndex] = color;
     }
 
 
@@ -108,7 +163,7 @@ public class ColorManager
     {
         if (colorIndex < 0)
             return ColorEx.BLACK;
-        final ColorEx color = this.colorByIndex.get (Integer.valueOf (colorIndex));
+        final ColorEx color = colorIndex < this.colorByIndex.length ? this.colorByIndex[colorIndex] : null;
         if (color == null)
             throw new ColorIndexException ("Color for index " + colorIndex + " is not registered!");
         return color;
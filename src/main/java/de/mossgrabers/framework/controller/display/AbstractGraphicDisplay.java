@@ -5,7 +5,6 @@
 package de.mossgrabers.framework.controller.display;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -41,7 +40,9 @@ import de.mossgrabers.framework.graphics.canvas.component.ParameterComponent;
 import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
-import de.mossgrabers.framework.graphics.display.ModelInfo;
+import de.mossgrabers.framework.graphics.display.DisplayModel;
+import de.mossgrabers.framework.metrics.Histogram;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
 import de.mossgrabers.framework.utils.Pair;
 
 
@@ -78,14 +79,14 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     private final ScheduledExecutorService executor                        = Executors.newSingleThreadScheduledExecutor ();
     private final Object                   counterSync                     = new Object ();
 
-    private final List<IComponent>         columns                         = new ArrayList<> (8);
+    private final DisplayModel             displayModel                    = new DisplayModel ();
     private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
-    private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
 
     protected final IHost                  host;
     protected final IGraphicsConfiguration configuration;
     protected final IGraphicsDimensions    dimensions;
     private final IBitmap                  image;
+    private final Histogram                renderDuration;
 
     private IHwGraphicsDisplay             hardwareDisplay;
 
@@ -108,6 +109,8 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
         this.image = host.createBitmap (dimensions.getWidth (), dimensions.getHeight ());
         this.image.setDisplayWindowTitle (windowTitle);
+        final MetricsRegistry metrics = MetricsRegistry.getInstance ();
+        this.renderDuration = metrics.getHistogram (metrics.getInstanceName (windowTitle) + " rendering");
 
         // Manage notification message display time
         this.executor.scheduleAtFixedRate (this::checkNotificationCounter, 1, 1, TimeUnit.SECONDS);
@@ -169,26 +172,20 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
         if (this.executor.isShutdown ())
             return;
 
-        try
+        final String notification;
+        synchronized (this.counterSync)
         {
-            final String notification;
-            synchronized (this.counterSync)
-            {
-                notification = this.notificationMessage.get ();
-            }
-
-            final ModelInfo newInfo = new ModelInfo (notification, this.columns);
-
-            // Only render image if there is a change in the data
-            if (!this.info.equals (newInfo))
-            {
-                this.info = newInfo;
-                this.renderImage ();
-            }
+            notification = this.notificationMessage.get ();
         }
-        finally
+        this.displayModel.setNotification (notification);
+
+        // Only render image if there is a change in the data
+        if (this.displayModel.endFrame ())
         {
-            this.columns.clear ();
+            final long start = System.nanoTime ();
+            this.renderImage ();
+            this.renderDuration.recordSince (start);
+            this.displayModel.clearChanges ();
         }
 
         this.send (this.image);
@@ -253,7 +250,11 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addChannelSelectorElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final boolean isActive)
     {
-        this.addElement (new ChannelSelectComponent (type, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, isActive));
+        final ChannelSelectComponent component = this.displayModel.getReusableComponent (ChannelSelectComponent.class);
+        if (component == null)
+            this.addElement (new ChannelSelectComponent (type, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, isActive));
+        else
+            this.displayModel.reuseComponent (component.update (type, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, isActive));
     }
 
 
@@ -285,7 +286,12 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
                 editType = ChannelComponent.EDIT_TYPE_ALL;
                 break;
         }
-        this.addElement (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode, isPinned));
+
+        final ChannelComponent component = this.displayModel.getReusableComponent (ChannelComponent.class);
+        if (component == null)
+            this.addElement (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode, isPinned));
+        else
+            this.displayModel.reuseComponent (component.update (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode, isPinned));
     }
 
 
@@ -309,7 +315,11 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, type, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        final ParameterComponent component = this.displayModel.getReusableComponent (ParameterComponent.class);
+        if (component == null)
+            this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, type, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        else
+            this.displayModel.reuseComponent (component.update (topMenu, isTopMenuOn, bottomMenu, type, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
     }
 
 
@@ -317,7 +327,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElementWithPlainMenu (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, null, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.PLAIN));
+        this.addParameterElement (topMenu, isTopMenuOn, bottomMenu, null, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterValueStr, parameterIsActive, parameterModulatedValue, LabelLayout.PLAIN);
     }
 
 
@@ -325,7 +335,17 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final String deviceName, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, deviceName, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        this.addParameterElement (topMenu, isTopMenuOn, bottomMenu, deviceName, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterValueStr, parameterIsActive, parameterModulatedValue, LabelLayout.COLORED);
+    }
+
+
+    private void addParameterElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final String deviceName, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue, final LabelLayout lowerLayout)
+    {
+        final ParameterComponent component = this.displayModel.getReusableComponent (ParameterComponent.class);
+        if (component == null)
+            this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, deviceName, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, lowerLayout));
+        else
+            this.displayModel.reuseComponent (component.update (topMenu, isTopMenuOn, bottomMenu, deviceName, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, lowerLayout));
     }
 
 
@@ -349,7 +369,11 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addOptionElement (final String headerTopName, final String menuTopName, final boolean isMenuTopSelected, final ColorEx menuTopColor, final String headerBottomName, final String menuBottomName, final boolean isMenuBottomSelected, final ColorEx menuBottomColor, final boolean useSmallTopMenu, final boolean isBottomHeaderSelected)
     {
-        this.addElement (new OptionsComponent (headerTopName, menuTopName, isMenuTopSelected, menuTopColor, headerBottomName, menuBottomName, isMenuBottomSelected, menuBottomColor, useSmallTopMenu, isBottomHeaderSelected));
+        final OptionsComponent component = this.displayModel.getReusableComponent (OptionsComponent.class);
+        if (component == null)
+            this.addElement (new OptionsComponent (headerTopName, menuTopName, isMenuTopSelected, menuTopColor, headerBottomName, menuBottomName, isMenuBottomSelected, menuBottomColor, useSmallTopMenu, isBottomHeaderSelected));
+        else
+            this.displayModel.reuseComponent (component.update (headerTopName, menuTopName, isMenuTopSelected, menuTopColor, headerBottomName, menuBottomName, isMenuBottomSelected, menuBottomColor, useSmallTopMenu, isBottomHeaderSelected));
     }
 
 
@@ -400,7 +424,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addElement (final IComponent component)
     {
-        this.columns.add (component);
+        this.displayModel.addComponent (component);
     }
 
 
@@ -439,7 +463,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             final ColorEx colorBorder = this.configuration.getColorBorder ();
             gc.fillRectangle (0, 0, width, height, colorBorder);
 
-            final List<IComponent> elements = this.info.getComponents ();
+            final List<IComponent> elements = this.displayModel.getComponents ();
             final int size = elements.size ();
             if (size == 0)
                 return;
@@ -455,7 +479,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
                     component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
             }
 
-            final String notification = this.info.getNotification ();
+            final String notification = this.displayModel.getNotification ();
             if (notification == null)
                 return;
 
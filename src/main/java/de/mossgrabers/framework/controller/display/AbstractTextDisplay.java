@@ -9,6 +9,8 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+
 
 /**
  * Abstract implementation of a display.
@@ -39,6 +41,8 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     protected String []      message;
     protected String []      fullRows;
     protected String []      cells;
+    protected String []      sentRows;
+    protected char [] []     rowBuffers;
 
     protected IHwTextDisplay hwDisplay;
 
@@ -87,6 +91,8 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         this.message = new String [this.noOfLines];
         this.fullRows = new String [this.noOfLines];
         this.cells = new String [this.noOfLines * this.noOfCells];
+        this.sentRows = new String [this.noOfLines];
+        this.rowBuffers = new char [this.noOfLines] [this.noOfCharacters];
     }
 
 
@@ -180,15 +186,26 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         {
             this.message[row] = this.fullRows[row];
             this.fullRows[row] = null;
+            return this;
         }
-        else
+
+        // Compose the row in the re-used buffer and only create a new string if it has changed
+        final int index = row * this.noOfCells;
+        int length = 0;
+        for (int i = 0; i < this.noOfCells; i++)
         {
-            final int index = row * this.noOfCells;
-            this.message[row] = "";
-            for (int i = 0; i < this.noOfCells; i++)
-                this.message[row] += this.cells[index + i];
+            final String cell = this.cells[index + i];
+            if (cell == null)
+                continue;
+            final int cellLength = cell.length ();
+            if (length + cellLength > this.rowBuffers[row].length)
+                this.rowBuffers[row] = Arrays.copyOf (this.rowBuffers[row], length + cellLength);
+            cell.getChars (0, cellLength, this.rowBuffers[row], length);
+            length += cellLength;
         }
 
+        if (!isEqual (this.message[row], this.rowBuffers[row], length))
+            this.message[row] = new String (this.rowBuffers[row], 0, length);
         return this;
     }
 
@@ -272,6 +289,10 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         synchronized (this.notificationLock)
         {
             this.notificationTimeout = 0;
+
+            // Remove a displayed notification with the next timer tick
+            if (this.host.getTimerService ().isScheduled (this.notificationLock))
+                this.host.getTimerService ().schedule (this.notificationLock, this::watch, 0);
         }
     }
 
@@ -306,11 +327,10 @@ public abstract class AbstractTextDisplay implements ITextDisplay
 
         synchronized (this.notificationLock)
         {
-            final boolean isRunning = this.notificationTimeout > 0;
             this.notificationTimeout = AbstractTextDisplay.NOTIFICATION_TIME;
             this.showNotification ();
-            if (!isRunning)
-                this.host.scheduleTask (this::watch, 100);
+            // Restarts the timeout if a notification is already displayed
+            this.host.getTimerService ().schedule (this.notificationLock, this::watch, AbstractTextDisplay.NOTIFICATION_TIME);
         }
     }
 
@@ -319,12 +339,8 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     {
         synchronized (this.notificationLock)
         {
-            this.notificationTimeout -= 100;
-
-            if (this.notificationTimeout <= 0)
-                this.removeNotification ();
-            else
-                this.host.scheduleTask (this::watch, 100);
+            this.notificationTimeout = 0;
+            this.removeNotification ();
         }
     }
 
@@ -398,6 +414,43 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     protected void updateLine (final int row, final String text, final String previousText)
     {
         this.hwDisplay.setLine (row, this.convertCharacterset (text));
+
+        // Compare with the text which was actually sent last to the device
+        final String sentText = this.sentRows[row];
+        this.sentRows[row] = text;
+        if (sentText == null || sentText.length () != text.length ())
+        {
+            this.writeLine (row, text, previousText);
+            return;
+        }
+
+        final int length = text.length ();
+        int start = 0;
+        while (start < length && text.charAt (start) == sentText.charAt (start))
+            start++;
+        if (start == length)
+            return;
+        int end = length;
+        while (end > start && text.charAt (end - 1) == sentText.charAt (end - 1))
+            end--;
+
+        this.writeRange (row, text, sentText, start, end);
+    }
+
+
+    /**
+     * Send the changed part of a row to the display. The default implementation sends the whole
+     * row with {@link #writeLine(int, String, String)}. Overwrite if the device supports to update
+     * only a part of a row.
+     *
+     * @param row The row to which to send the text
+     * @param text The full text of the row
+     * @param previousText The text of the row which was sent before, has the same length as text
+     * @param start The index of the first changed character
+     * @param end The index after the last changed character
+     */
+    protected void writeRange (final int row, final String text, final String previousText, final int start, final int end)
+    {
         this.writeLine (row, text, previousText);
     }
 
@@ -419,7 +472,10 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     public void forceFlush ()
     {
         for (int row = 0; row < this.noOfLines; row++)
+        {
             this.currentMessage[row] = "";
+            this.sentRows[row] = null;
+        }
     }
 
 
@@ -432,4 +488,17 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     {
         this.centerNotification = centerNotification;
     }
+
+
+    private static boolean isEqual (final String text, final char [] buffer, final int length)
+    {
+        if (text == null || text.length () != length)
+            return false;
+        for (int i = 0; i < length; i++)
+        {
+            if (text.charAt (i) != buffer[i])
+                return false;
+        }
+        return true;
+    }
 }
\ No newline at end of file
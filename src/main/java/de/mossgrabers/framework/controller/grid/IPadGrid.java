@@ -59,6 +59,27 @@ public interface IPadGrid extends ILightGuide
     void lightEx (int x, int y, String colorID, String blinkColorID, boolean fast);
 
 
+    /**
+     * Set the lighting state of a pad. Faster than the variant with the color ID, since the
+     * handle is resolved once, e.g. in the constructor of a view.
+     *
+     * @param note The note of the pad
+     * @param colorHandle The handle of a registered color ID, see ColorManager.getColorHandle
+     */
+    void lightHandle (int note, int colorHandle);
+
+
+    /**
+     * Set the lighting state of a pad. Faster than the variant with the color ID, since the
+     * handle is resolved once, e.g. in the constructor of a view.
+     *
+     * @param x The x position of the pad in the grid
+     * @param y The y position of the pad in the grid
+     * @param colorHandle The handle of a registered color ID, see ColorManager.getColorHandle
+     */
+    void lightHandleEx (int x, int y, int colorHandle);
+
+
     /**
      * Plug for grids not sending notes in the range of 36-100.
      *
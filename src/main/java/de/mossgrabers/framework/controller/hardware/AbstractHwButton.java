@@ -7,7 +7,6 @@ package de.mossgrabers.framework.controller.hardware;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
-import de.mossgrabers.framework.utils.TimeoutOptimizer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,8 +21,6 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
 {
     private static final int               BUTTON_STATE_INTERVAL = 300;
 
-    private final TimeoutOptimizer         optimizer;
-
     protected TriggerCommand               command;
     protected IHwLight                     light;
 
@@ -44,8 +41,6 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     protected AbstractHwButton (final IHost host, final String label)
     {
         super (host, label);
-
-        this.optimizer = new TimeoutOptimizer (host, BUTTON_STATE_INTERVAL);
     }
 
 
@@ -78,7 +73,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         this.state = ButtonEvent.DOWN;
         this.isConsumed = false;
 
-        this.host.scheduleTask (this::checkButtonState, this.optimizer.getTimeout ());
+        // Replaces the check of a previous press which is still pending
+        this.host.getTimerService ().schedule (this, this::checkButtonState, BUTTON_STATE_INTERVAL);
         this.pressedVelocity = (int) (value * 127.0);
         if (this.command != null)
             this.command.execute (ButtonEvent.DOWN, this.pressedVelocity);
@@ -96,6 +92,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
             return;
 
         this.state = ButtonEvent.UP;
+        this.host.getTimerService ().cancel (this);
         if (this.command != null && !this.isConsumed)
             this.command.execute (ButtonEvent.UP, 0);
 
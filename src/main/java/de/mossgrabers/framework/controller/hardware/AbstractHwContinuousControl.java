@@ -100,7 +100,10 @@ public abstract class AbstractHwContinuousControl extends AbstractHwInputControl
         if (this.touchCommand == null)
             return;
 
-        this.host.scheduleTask (this::checkButtonState, BUTTON_STATE_INTERVAL);
+        if (isDown)
+            this.host.getTimerService ().schedule (this, this::checkButtonState, BUTTON_STATE_INTERVAL);
+        else
+            this.host.getTimerService ().cancel (this);
 
         this.state = isDown ? ButtonEvent.DOWN : ButtonEvent.UP;
         this.touchCommand.execute (this.state, isDown ? 127 : 0);
@@ -0,0 +1,180 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.hardware;
+
+import de.mossgrabers.framework.utils.TimerService;
+
+import java.util.Arrays;
+
+
+/**
+ * The output stage for motor faders. Sending every value change to a motor fader lets it jitter,
+ * strains the motor and floods the MIDI connection. Therefore, the values of each fader are rate
+ * limited, small changes inside of a dead-band are only sent when the value has settled and no
+ * values are sent while a fader is touched and for a short time after it was released. Values
+ * which are held back are sent later from the timer service, so the fader always ends up at the
+ * latest value.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class MotorFaderOutput
+{
+    /** The maximum value of the 14-bit resolution. */
+    public static final int    MAX_VALUE = 16383;
+
+    private final TimerService timerService;
+    private final IFaderSender sender;
+    private final int          deadBand;
+    private final long         minInterval;
+    private final long         settleTime;
+    private final long         touchHoldOff;
+    private final Object []    keys;
+    private final int []       requestedValues;
+    private final int []       sentValues;
+    private final long []      lastSendTimes;
+    private final long []      holdOffEnds;
+    private final boolean []   isTouched;
+
+
+    /**
+     * Constructor.
+     *
+     * @param timerService The timer service for sending the held back values
+     * @param numFaders The number of faders
+     * @param deadBand Changes up to this value (in 14-bit resolution) are only sent when the value
+     *            has settled
+     * @param minInterval The minimum time between two values sent to a fader in milliseconds
+     * @param settleTime The time in milliseconds after which a value counts as settled
+     * @param touchHoldOff The time in milliseconds to wait after a fader was released before
+     *            values are sent again
+     * @param sender Sends the values to the device
+     */
+    public MotorFaderOutput (final TimerService timerService, final int numFaders, final int deadBand, final long minInterval, final long settleTime, final long touchHoldOff, final IFaderSender sender)
+    {
+        this.timerService = timerService;
+        this.sender = sender;
+        this.deadBand = deadBand;
+        this.minInterval = minInterval * 1000000L;
+        this.settleTime = settleTime;
+        this.touchHoldOff = touchHoldOff * 1000000L;
+
+        this.keys = new Object [numFaders];
+        for (int i = 0; i < numFaders; i++)
+            this.keys[i] = new Object ();
+        this.requestedValues = new int [numFaders];
+        this.sentValues = new int [numFaders];
+        this.lastSendTimes = new long [numFaders];
+        this.holdOffEnds = new long [numFaders];
+        this.isTouched = new boolean [numFaders];
+
+        Arrays.fill (this.requestedValues, -1);
+        Arrays.fill (this.sentValues, -1);
+        final long now = System.nanoTime ();
+        Arrays.fill (this.lastSendTimes, now - this.minInterval);
+        Arrays.fill (this.holdOffEnds, now);
+    }
+
+
+    /**
+     * Move a fader to the given value. The value is sent as soon as the fader is not touched and
+     * the rate limit allows it.
+     *
+     * @param fader The index of the fader
+     * @param value The normalized value (0..1)
+     */
+    public synchronized void setValue (final int fader, final double value)
+    {
+        final int requestedValue = (int) Math.round (Math.max (0, Math.min (1, value)) * MAX_VALUE);
+        final boolean hasChanged = requestedValue != this.requestedValues[fader];
+        this.requestedValues[fader] = requestedValue;
+        this.update (fader, false, hasChanged);
+    }
+
+
+    /**
+     * Set the touch state of a fader. No values are sent to a touched fader. After it is released
+     * the latest value is sent when the hold-off time is over, since the fader might not be at the
+     * position of the last sent value.
+     *
+     * @param fader The index of the fader
+     * @param isTouched True if touched
+     */
+    public synchronized void setTouched (final int fader, final boolean isTouched)
+    {
+        this.isTouched[fader] = isTouched;
+        if (isTouched)
+        {
+            this.timerService.cancel (this.keys[fader]);
+            return;
+        }
+
+        this.holdOffEnds[fader] = System.nanoTime () + this.touchHoldOff;
+        this.sentValues[fader] = -1;
+        this.update (fader, false, true);
+    }
+
+
+    /**
+     * Forget the sent values and all held back values, e.g. on shutdown.
+     */
+    public synchronized void clear ()
+    {
+        for (int i = 0; i < this.keys.length; i++)
+            this.timerService.cancel (this.keys[i]);
+        Arrays.fill (this.requestedValues, -1);
+        Arrays.fill (this.sentValues, -1);
+    }
+
+
+    private synchronized void update (final int fader, final boolean hasSettled, final boolean hasChanged)
+    {
+        final int value = this.requestedValues[fader];
+        final int sentValue = this.sentValues[fader];
+        if (this.isTouched[fader] || value < 0 || value == sentValue)
+            return;
+
+        final long now = System.nanoTime ();
+        final long wait = Math.max (this.holdOffEnds[fader], this.lastSendTimes[fader] + this.minInterval) - now;
+        if (wait > 0)
+        {
+            // Runs with the latest value, therefore an already scheduled update is kept
+            this.timerService.scheduleIfAbsent (this.keys[fader], () -> this.update (fader, true, false), Math.max (1, wait / 1000000L));
+            return;
+        }
+
+        if (!hasSettled && sentValue >= 0 && Math.abs (value - sentValue) <= this.deadBand)
+        {
+            // Restart the settle time only with a small change, the same value is sent on each
+            // flush and must not delay the settled value forever
+            final Runnable settled = () -> this.update (fader, true, false);
+            if (hasChanged)
+                this.timerService.schedule (this.keys[fader], settled, this.settleTime);
+            else
+                this.timerService.scheduleIfAbsent (this.keys[fader], settled, this.settleTime);
+            return;
+        }
+
+        this.timerService.cancel (this.keys[fader]);
+        this.sentValues[fader] = value;
+        this.lastSendTimes[fader] = now;
+        this.sender.send (fader, value);
+    }
+
+
+    /**
+     * Sends a value to a motor fader.
+     */
+    @FunctionalInterface
+    public interface IFaderSender
+    {
+        /**
+         * Send the value to the fader.
+         *
+         * @param fader The index of the fader
+         * @param value The 14-bit value (0-16383)
+         */
+        void send (int fader, int value);
+    }
+}
@@ -28,6 +28,7 @@ public abstract class AbstractBrowser implements IBrowser
     protected IBrowserColumn []                 columnData;
     protected int                               selectedFilterColumn = 0;
     protected String                            infoText             = "";
+    protected final BrowserResultIndex          resultIndex          = new BrowserResultIndex ();
 
     private final List<IValueObserver<Boolean>> activeObservers      = new ArrayList<> ();
 
@@ -73,6 +74,7 @@ public abstract class AbstractBrowser implements IBrowser
     @Override
     public void resetFilterColumn (final int column)
     {
+        this.clearResultIndex ();
         this.columnData[column].resetFilter ();
     }
 
@@ -116,8 +118,10 @@ public abstract class AbstractBrowser implements IBrowser
     @Override
     public void selectPreviousFilterItem (final int columnIndex)
     {
-        if (columnIndex >= 0)
-            this.columnData[columnIndex].selectPreviousItem ();
+        if (columnIndex < 0)
+            return;
+        this.clearResultIndex ();
+        this.columnData[columnIndex].selectPreviousItem ();
     }
 
 
@@ -151,8 +155,10 @@ public abstract class AbstractBrowser implements IBrowser
     @Override
     public void selectNextFilterItem (final int columnIndex)
     {
-        if (columnIndex >= 0)
-            this.columnData[columnIndex].selectNextItem ();
+        if (columnIndex < 0)
+            return;
+        this.clearResultIndex ();
+        this.columnData[columnIndex].selectNextItem ();
     }
 
 
@@ -192,8 +198,10 @@ public abstract class AbstractBrowser implements IBrowser
      */
     public void setSelectedFilterItemIndex (final int columnIndex, final int index)
     {
-        if (columnIndex >= 0)
-            this.columnData[columnIndex].setCursorIndex (index);
+        if (columnIndex < 0)
+            return;
+        this.clearResultIndex ();
+        this.columnData[columnIndex].setCursorIndex (index);
     }
 
 
@@ -213,6 +221,48 @@ public abstract class AbstractBrowser implements IBrowser
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean selectResult (final String prefix)
+    {
+        return this.selectResultAt (this.resultIndex.find (prefix));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean selectNextResultLetter ()
+    {
+        return this.selectResultAt (this.resultIndex.findNextLetter (this.getSelectedResult ()));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean selectPreviousResultLetter ()
+    {
+        return this.selectResultAt (this.resultIndex.findPreviousLetter (this.getSelectedResult ()));
+    }
+
+
+    /**
+     * Remove all results from the index, e.g. if the filters have changed.
+     */
+    protected void clearResultIndex ()
+    {
+        this.resultIndex.clear ();
+    }
+
+
+    /**
+     * Select the result at the given position of all results.
+     *
+     * @param position The position, -1 to do nothing
+     * @return True if the position is valid
+     */
+    protected abstract boolean selectResultAt (final int position);
+
+
     /** {@inheritDoc} */
     @Override
     public int getNumResults ()
@@ -0,0 +1,119 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * A local index of the names of the browser results. The DAW provides the results only in pages,
+ * the index collects the names of all pages which were loaded so far. This allows to find the
+ * position of a result by the start of its name or by its first letter without scrolling through
+ * all results. The index must be cleared if the results change, e.g. if a filter is changed.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class BrowserResultIndex
+{
+    private final Map<Integer, String>     names     = new HashMap<> ();
+    // Sorted by name, the position is appended to the key to keep duplicate names
+    private final TreeMap<String, Integer> positions = new TreeMap<> ();
+
+
+    /**
+     * Remove all names.
+     */
+    public void clear ()
+    {
+        this.names.clear ();
+        this.positions.clear ();
+    }
+
+
+    /**
+     * Set the name of the result at the given position.
+     *
+     * @param position The position of the result in all results
+     * @param name The name of the result, empty or null to remove it
+     */
+    public void put (final int position, final String name)
+    {
+        if (position < 0)
+            return;
+
+        final Integer pos = Integer.valueOf (position);
+        final String oldName = name == null || name.isEmpty () ? this.names.remove (pos) : this.names.put (pos, name);
+        if (oldName != null)
+            this.positions.remove (createKey (oldName, position));
+        if (name != null && !name.isEmpty ())
+            this.positions.put (createKey (name, position), pos);
+    }
+
+
+    /**
+     * Get the number of indexed results.
+     *
+     * @return The number of results
+     */
+    public int size ()
+    {
+        return this.names.size ();
+    }
+
+
+    /**
+     * Find the result, which name starts with the given text. The case is ignored.
+     *
+     * @param prefix The start of the name
+     * @return The position of the alphabetically first matching result or -1 if none is found
+     */
+    public int find (final String prefix)
+    {
+        final String text = prefix.toLowerCase (Locale.US);
+        final Map.Entry<String, Integer> entry = this.positions.ceilingEntry (text);
+        return entry != null && entry.getKey ().startsWith (text) ? entry.getValue ().intValue () : -1;
+    }
+
+
+    /**
+     * Find the first result, which name starts with a letter which follows the first letter of the
+     * given name.
+     *
+     * @param name The name of the current result
+     * @return The position of the result or -1 if none is found
+     */
+    public int findNextLetter (final String name)
+    {
+        final String key = name == null || name.isEmpty () ? "" : String.valueOf ((char) (Character.toLowerCase (name.charAt (0)) + 1));
+        final Map.Entry<String, Integer> entry = this.positions.ceilingEntry (key);
+        return entry == null ? -1 : entry.getValue ().intValue ();
+    }
+
+
+    /**
+     * Find the first result, which name starts with the letter which precedes the first letter of
+     * the given name.
+     *
+     * @param name The name of the current result
+     * @return The position of the result or -1 if none is found
+     */
+    public int findPreviousLetter (final String name)
+    {
+        if (name == null || name.isEmpty ())
+            return -1;
+        final String key = String.valueOf (Character.toLowerCase (name.charAt (0)));
+        final String previous = this.positions.lowerKey (key);
+        return previous == null ? -1 : this.find (previous.substring (0, 1));
+    }
+
+
+    private static String createKey (final String name, final int position)
+    {
+        return name.toLowerCase (Locale.US) + '\0' + position;
+    }
+}
@@ -281,6 +281,36 @@ public interface IBrowser extends IObserverManagement
     String getSelectedResult ();
 
 
+    /**
+     * Select the result, which name starts with the given text. Only the results of the pages
+     * which were already loaded from the DAW can be found.
+     *
+     * @param prefix The start of the name, the case is ignored
+     * @return True if a result was found
+     */
+    boolean selectResult (String prefix);
+
+
+    /**
+     * Select the first result, which name starts with the letter which follows the first letter of
+     * the selected result. Only the results of the pages which were already loaded from the DAW
+     * can be found.
+     *
+     * @return True if a result was found
+     */
+    boolean selectNextResultLetter ();
+
+
+    /**
+     * Select the first result, which name starts with the letter which precedes the first letter
+     * of the selected result. Only the results of the pages which were already loaded from the DAW
+     * can be found.
+     *
+     * @return True if a result was found
+     */
+    boolean selectPreviousResultLetter ();
+
+
     /**
      * Get the number of results to display on a page.
      *
@@ -16,6 +16,7 @@ import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.parameter.NoteAttribute;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.TimerService;
 
 import java.util.List;
 
@@ -68,6 +69,15 @@ public interface IHost
     void scheduleTask (Runnable task, long delay);
 
 
+    /**
+     * Get the timer service, which supports cancellation, keyed and periodic tasks. All tasks
+     * share one scheduled task of the host.
+     *
+     * @return The timer service
+     */
+    TimerService getTimerService ();
+
+
     /**
      * Print the error to the console.
      *
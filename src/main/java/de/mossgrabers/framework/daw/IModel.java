@@ -20,6 +20,7 @@ import de.mossgrabers.framework.daw.data.bank.ISceneBank;
 import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.ObserverInterests;
 import de.mossgrabers.framework.scale.Scales;
 
 import java.util.Optional;
@@ -96,6 +97,15 @@ public interface IModel
     IGroove getGroove ();
 
 
+    /**
+     * Get the registry which counts the interests of the active modes and views in the features
+     * of the model.
+     *
+     * @return The observer interests
+     */
+    ObserverInterests getObserverInterests ();
+
+
     /**
      * Get the cursor track.
      *
@@ -7,6 +7,8 @@ package de.mossgrabers.framework.daw.data;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.observer.IChangeObserver;
+import de.mossgrabers.framework.observer.IObserverManagement;
 import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.parameter.IParameter;
 
@@ -298,6 +300,16 @@ public interface IChannel extends IItem
     int getVu ();
 
 
+    /**
+     * Get the management of the VU meter observers. The VU meters are updated constantly while the
+     * transport is playing, therefore they can be disabled independently from the other
+     * attributes. While disabled all VU values are 0.
+     *
+     * @return The VU meter observers
+     */
+    IObserverManagement getVuMeterObservers ();
+
+
     /**
      * Get the left VU value.
      *
@@ -366,6 +378,27 @@ public interface IChannel extends IItem
     void addColorObserver (IValueObserver<ColorEx> observer);
 
 
+    /**
+     * Add an observer which is notified if any of the values of the channel has changed (e.g.
+     * name, color, volume, panorama, mute, solo or sends). The VU meters are not included, see
+     * addVuMeterChangeObserver. Must be called during initialization.
+     *
+     * @param observer The observer to notify on a change
+     */
+    void addChangeObserver (IChangeObserver observer);
+
+
+    /**
+     * Add an observer which is notified if the VU meters of the channel have changed. Since the
+     * meters change continuously during playback, only add it if the VU meters are drawn. It is
+     * not notified while the VU meter observers are disabled. Must be called during
+     * initialization.
+     *
+     * @param observer The observer to notify on a change
+     */
+    void addVuMeterChangeObserver (IChangeObserver observer);
+
+
     /**
      * Add a device at the end of the channels' device chain.
      *
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.observer.IChangeObserver;
 
 
 /**
@@ -78,6 +79,15 @@ public interface ISlot extends IItem
     void setColor (ColorEx color);
 
 
+    /**
+     * Add an observer which is notified if any of the values of the slot has changed (e.g. name,
+     * color or the play state). Must be called during initialization.
+     *
+     * @param observer The observer to notify on a change
+     */
+    void addChangeObserver (IChangeObserver observer);
+
+
     /**
      * Launch a clip.
      *
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.daw.data.bank;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.observer.IBankPageObserver;
 import de.mossgrabers.framework.observer.IItemSelectionObserver;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,12 +24,13 @@ import java.util.concurrent.CopyOnWriteArraySet;
  */
 public abstract class AbstractBank<T> implements IBank<T>
 {
-    protected final IHost                     host;
-    protected final List<T>                   items;
-    protected final int                       pageSize;
+    protected final IHost                      host;
+    protected final List<T>                    items;
+    protected final int                        pageSize;
 
-    private final Set<IItemSelectionObserver> selectionObservers = new CopyOnWriteArraySet<> ();
-    private final Set<IBankPageObserver>      pageObservers      = new CopyOnWriteArraySet<> ();
+    private final Set<IItemSelectionObserver>  selectionObservers      = new CopyOnWriteArraySet<> ();
+    private final Set<IBankPageObserver>       pageObservers           = new CopyOnWriteArraySet<> ();
+    private final Set<IValueObserver<Integer>> scrollPositionObservers = new CopyOnWriteArraySet<> ();
 
 
     /**
@@ -123,6 +125,14 @@ public abstract class AbstractBank<T> implements IBank<T>
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addScrollPositionObserver (final IValueObserver<Integer> observer)
+    {
+        this.scrollPositionObservers.add (observer);
+    }
+
+
     /**
      * Notify all registered selection observers.
      *
@@ -186,4 +196,16 @@ public abstract class AbstractBank<T> implements IBank<T>
     {
         this.pageObservers.forEach (IBankPageObserver::pageAdjusted);
     }
+
+
+    /**
+     * Notify all scroll position observers.
+     *
+     * @param position The new scroll position
+     */
+    protected void fireScrollPositionObserver (final int position)
+    {
+        final Integer value = Integer.valueOf (position);
+        this.scrollPositionObservers.forEach (observer -> observer.update (value));
+    }
 }
@@ -8,12 +8,15 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.IItem;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 
 
 /**
- * An abstract bank which contains items.
+ * An abstract bank which contains items. A bank can keep an index of the existing and selected
+ * items of the page, which is updated from the observers of the DAW. The queries for the existing
+ * and selected items then only need to check the indexed items instead of the whole page.
  *
  * @param <T> The specific item type of the bank item
  *
@@ -21,6 +24,19 @@ import java.util.Optional;
  */
 public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
 {
+    /** The time to wait for the confirmation of a scroll request before executing the action. */
+    private static final int        SCROLL_TIMEOUT     = 250;
+
+    private Runnable                pendingAction;
+    private int                     pendingPosition    = -1;
+
+    private final BitSet            existingItems      = new BitSet ();
+    private final BitSet            selectedItems      = new BitSet ();
+    private boolean                 isExistenceIndexed = false;
+    private boolean                 isSelectionIndexed = false;
+    private final List<Optional<T>> optionalItems      = new ArrayList<> ();
+
+
     /**
      * Constructor.
      *
@@ -51,7 +67,8 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     @Override
     public boolean hasExistingItems ()
     {
-        for (int i = 0; i < this.getPageSize (); i++)
+        final BitSet candidates = this.isExistenceIndexed ? this.existingItems : null;
+        for (int i = nextCandidate (candidates, 0); i >= 0 && i < this.getPageSize (); i = nextCandidate (candidates, i + 1))
         {
             if (this.getItem (i).doesExist ())
                 return true;
@@ -64,11 +81,11 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     @Override
     public Optional<T> getSelectedItem ()
     {
-        for (int i = 0; i < this.getPageSize (); i++)
+        final BitSet candidates = this.isSelectionIndexed ? this.selectedItems : null;
+        for (int i = nextCandidate (candidates, 0); i >= 0 && i < this.getPageSize (); i = nextCandidate (candidates, i + 1))
         {
-            final T item = this.getItem (i);
-            if (item.isSelected ())
-                return Optional.of (item);
+            if (this.getItem (i).isSelected ())
+                return this.getOptionalItem (i);
         }
         return Optional.empty ();
     }
@@ -79,7 +96,8 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     public List<T> getSelectedItems ()
     {
         final List<T> selection = new ArrayList<> ();
-        for (int i = 0; i < this.getPageSize (); i++)
+        final BitSet candidates = this.isSelectionIndexed ? this.selectedItems : null;
+        for (int i = nextCandidate (candidates, 0); i >= 0 && i < this.getPageSize (); i = nextCandidate (candidates, i + 1))
         {
             final T item = this.getItem (i);
             if (item.isSelected ())
@@ -89,6 +107,74 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     }
 
 
+    /**
+     * Use an index of the existing items for the queries. The subclass must call setItemExists for
+     * each change of the existence of an item, which changes the result of doesExist.
+     */
+    protected void enableExistenceIndex ()
+    {
+        this.isExistenceIndexed = true;
+    }
+
+
+    /**
+     * Update the index of the existing items.
+     *
+     * @param index The index of the item in the page
+     * @param exists True if the item exists
+     */
+    protected void setItemExists (final int index, final boolean exists)
+    {
+        this.existingItems.set (index, exists);
+    }
+
+
+    /**
+     * Use an index of the selected items for the queries. The subclass must call setItemSelected
+     * for each selection change of an item, which changes the result of isSelected.
+     */
+    protected void enableSelectionIndex ()
+    {
+        this.isSelectionIndexed = true;
+    }
+
+
+    /**
+     * Update the index of the selected items.
+     *
+     * @param index The index of the item in the page
+     * @param isSelected True if the item is selected
+     */
+    protected void setItemSelected (final int index, final boolean isSelected)
+    {
+        this.selectedItems.set (index, isSelected);
+    }
+
+
+    /**
+     * Get the index of the next item to check. The indexed items are only candidates, since the
+     * state of an item can depend on more than the indexed value, e.g. only existing items are
+     * selected.
+     *
+     * @param candidates The indexed items or null to check all
+     * @param fromIndex The index to start from
+     * @return The index of the next item to check or -1 if there is none
+     */
+    private static int nextCandidate (final BitSet candidates, final int fromIndex)
+    {
+        return candidates == null ? fromIndex : candidates.nextSetBit (fromIndex);
+    }
+
+
+    private Optional<T> getOptionalItem (final int index)
+    {
+        // The items of a page never change, therefore the optionals can be re-used
+        for (int i = this.optionalItems.size (); i <= index; i++)
+            this.optionalItems.add (Optional.of (this.getItem (i)));
+        return this.optionalItems.get (index);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void selectItemAtPosition (final int position)
@@ -96,13 +182,75 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
         if (position < 0 || position >= this.getItemCount ())
             return;
         final int ps = this.getPageSize ();
-        this.scrollTo (position / ps * ps);
-        this.host.scheduleTask ( () -> {
+        final int pagePosition = position / ps * ps;
+        this.scrollTo (pagePosition);
+        this.executeAfterScroll (pagePosition, () -> {
 
             this.getItem (position % ps).select ();
             this.firePageObserver ();
 
-        }, 75);
+        });
+    }
+
+
+    /**
+     * Execute an action as soon as the DAW confirms that the bank was scrolled to the given
+     * position, e.g. to select an item of the new page. If there is no confirmation in time, the
+     * action is executed anyway. A pending action is replaced by a new one.
+     *
+     * @param position The scroll position to wait for
+     * @param action The action to execute
+     */
+    protected void executeAfterScroll (final int position, final Runnable action)
+    {
+        if (this.pendingAction == null && this.getScrollPosition () == position)
+        {
+            action.run ();
+            return;
+        }
+
+        this.pendingAction = action;
+        this.pendingPosition = position;
+        this.host.getTimerService ().schedule (this, this::executePendingAction, SCROLL_TIMEOUT);
+    }
+
+
+    /**
+     * Get the scroll position which was requested last.
+     *
+     * @return The position which is waited for, if an action is pending, otherwise the current
+     *         scroll position
+     */
+    protected int getRequestedScrollPosition ()
+    {
+        return this.pendingAction == null ? this.getScrollPosition () : this.pendingPosition;
+    }
+
+
+    /**
+     * Must be called from the observer of the scroll position.
+     *
+     * @param position The new scroll position
+     */
+    protected void handleScrollPosition (final int position)
+    {
+        this.fireScrollPositionObserver (position);
+
+        if (this.pendingAction != null && position == this.pendingPosition)
+        {
+            this.host.getTimerService ().cancel (this);
+            this.executePendingAction ();
+        }
+    }
+
+
+    private void executePendingAction ()
+    {
+        final Runnable action = this.pendingAction;
+        this.pendingAction = null;
+        this.pendingPosition = -1;
+        if (action != null)
+            action.run ();
     }
 
 
@@ -118,7 +266,9 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     @Override
     public int getPositionOfLastItem ()
     {
-        for (int i = this.getPageSize () - 1; i >= 0; i--)
+        final int last = this.getPageSize () - 1;
+        final BitSet candidates = this.isExistenceIndexed ? this.existingItems : null;
+        for (int i = candidates == null ? last : candidates.previousSetBit (last); i >= 0; i = candidates == null ? i - 1 : candidates.previousSetBit (i - 1))
         {
             final T item = this.getItem (i);
             if (item.doesExist ())
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.daw.data.bank;
 import de.mossgrabers.framework.observer.IBankPageObserver;
 import de.mossgrabers.framework.observer.IItemSelectionObserver;
 import de.mossgrabers.framework.observer.IObserverManagement;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 import java.util.List;
 import java.util.Optional;
@@ -103,6 +104,15 @@ public interface IBank<T> extends IObserverManagement
     void removePageObserver (IBankPageObserver observer);
 
 
+    /**
+     * Registers an observer for the scroll position of the bank. It is notified when the DAW has
+     * confirmed the new position, e.g. after scrolling or if items were inserted or removed.
+     *
+     * @param observer The observer to register
+     */
+    void addScrollPositionObserver (IValueObserver<Integer> observer);
+
+
     /**
      * Is there a previous page to select?
      *
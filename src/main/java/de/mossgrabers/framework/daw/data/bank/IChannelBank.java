@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data.bank;
 
 import de.mossgrabers.framework.daw.data.IChannel;
+import de.mossgrabers.framework.observer.IObserverManagement;
 
 
 /**
@@ -32,6 +33,14 @@ public interface IChannelBank<T extends IChannel> extends IBank<T>
     ISceneBank getSceneBank ();
 
 
+    /**
+     * Get the management of the VU meter observers of all channels of the bank.
+     *
+     * @return The VU meter observers
+     */
+    IObserverManagement getVuMeterObservers ();
+
+
     /**
      * Set indication for all clips of the size of the number of tracks and scenes.
      *
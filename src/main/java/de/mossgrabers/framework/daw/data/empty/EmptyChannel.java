@@ -9,6 +9,8 @@ import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
 import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.observer.IChangeObserver;
+import de.mossgrabers.framework.observer.IObserverManagement;
 import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.parameter.IParameter;
 
@@ -20,7 +22,11 @@ import de.mossgrabers.framework.parameter.IParameter;
  */
 public class EmptyChannel extends EmptyItem implements IChannel
 {
-    private final int sendPageSize;
+    private static final IObserverManagement EMPTY_VU_METER_OBSERVERS = enable -> {
+        // Intentionally empty
+    };
+
+    private final int                        sendPageSize;
 
 
     /**
@@ -186,6 +192,14 @@ public class EmptyChannel extends EmptyItem implements IChannel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public IObserverManagement getVuMeterObservers ()
+    {
+        return EMPTY_VU_METER_OBSERVERS;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getVuLeft ()
@@ -418,6 +432,22 @@ public class EmptyChannel extends EmptyItem implements IChannel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final IChangeObserver observer)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addVuMeterChangeObserver (final IChangeObserver observer)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void addDevice (final IDeviceMetadata metadata)
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.daw.data.empty;
 import de.mossgrabers.framework.daw.data.bank.IParameterPageBank;
 import de.mossgrabers.framework.observer.IBankPageObserver;
 import de.mossgrabers.framework.observer.IItemSelectionObserver;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 import java.util.Collections;
 import java.util.List;
@@ -113,6 +114,14 @@ public class EmptyParameterPageBank implements IParameterPageBank
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addScrollPositionObserver (final IValueObserver<Integer> observer)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean canScrollBackwards ()
@@ -6,6 +6,7 @@ package de.mossgrabers.framework.daw.data.empty;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.data.ISlot;
+import de.mossgrabers.framework.observer.IChangeObserver;
 
 
 /**
@@ -92,6 +93,14 @@ public class EmptySlot extends EmptyItem implements ISlot
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final IChangeObserver observer)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void launch (final boolean isPressed, final boolean isAlternative)
@@ -4,6 +4,10 @@
 
 package de.mossgrabers.framework.daw.midi;
 
+import de.mossgrabers.framework.metrics.Counter;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
+
+
 /**
  * An abstract implementation for a MIDI output
  *
@@ -24,6 +28,11 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     protected static final int PARAMETER_MPE_PITCHBEND_SENSITIVITY_MSB = 0x00;
     protected static final int PARAMETER_MPE_PITCHBEND_SENSITIVITY_LSB = 0x00;
 
+    private Counter            shortMessageCounter                     = new Counter ();
+    private Counter            sysexByteCounter                        = new Counter ();
+    private MidiRecorder       recorder;
+    private String             recorderName;
+
 
     /** {@inheritDoc} */
     @Override
@@ -144,6 +153,68 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerMetrics (final String name)
+    {
+        final MetricsRegistry registry = MetricsRegistry.getInstance ();
+        this.shortMessageCounter = registry.getCounter (name + " MIDI short messages");
+        this.sysexByteCounter = registry.getCounter (name + " MIDI sysex bytes");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setRecorder (final MidiRecorder recorder, final String name)
+    {
+        this.recorder = recorder;
+        this.recorderName = name;
+    }
+
+
+    /**
+     * Count and record a sent MIDI short message.
+     *
+     * @param status The MIDI status byte
+     * @param data1 The MIDI data byte 1
+     * @param data2 The MIDI data byte 2
+     */
+    protected void countShortMessage (final int status, final int data1, final int data2)
+    {
+        this.shortMessageCounter.increment ();
+        if (this.recorder != null)
+            this.recorder.recordOutput (this.recorderName, MidiRecording.format (status, data1, data2));
+    }
+
+
+    /**
+     * Count and record a sent system exclusive message.
+     *
+     * @param data The data of the message
+     */
+    protected void countSysex (final byte [] data)
+    {
+        this.sysexByteCounter.add (data.length);
+        if (this.recorder != null)
+            this.recorder.recordOutput (this.recorderName, MidiRecording.format (data));
+    }
+
+
+    /**
+     * Count and record a sent system exclusive message.
+     *
+     * @param data The data of the message, formatted as a hex string with the bytes separated by
+     *            a blank (as created by StringUtils.toHexStr), e.g. 'F0 00 00 66 14 F7'
+     */
+    protected void countSysex (final String data)
+    {
+        // 2 digits and a blank per byte, the blank after the last byte is optional
+        this.sysexByteCounter.add ((data.length () + 1) / 3);
+        if (this.recorder != null)
+            this.recorder.recordOutput (this.recorderName, MidiRecording.format (data));
+    }
+
+
     /**
      * Sends a MIDI message to the hardware device.
      *
@@ -35,6 +35,36 @@ public interface IMidiInput
     void setSysexCallback (MidiSysExCallback callback);
 
 
+    /**
+     * Set the recorder which records the received messages. It is only set while a recording is
+     * active, the messages must not be formatted for the recorder otherwise.
+     *
+     * @param recorder The recorder, null to stop recording
+     * @param name The name of the port in the recording
+     */
+    void setRecorder (MidiRecorder recorder, String name);
+
+
+    /**
+     * Handle a short MIDI message as if it was received on this input, e.g. to replay a recording.
+     * The message is sent to the registered callback.
+     *
+     * @param status The MIDI status byte
+     * @param data1 The MIDI data byte 1
+     * @param data2 The MIDI data byte 2
+     */
+    void receiveMidi (int status, int data1, int data2);
+
+
+    /**
+     * Handle a system exclusive message as if it was received on this input, e.g. to replay a
+     * recording. The message is sent to the registered callback.
+     *
+     * @param data The message formatted as a hex string
+     */
+    void receiveSysex (String data);
+
+
     /**
      * Create a note input.
      *
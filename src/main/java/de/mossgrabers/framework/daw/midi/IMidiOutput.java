@@ -159,4 +159,22 @@ public interface IMidiOutput
      * @param range The pitch bend range (1-96)
      */
     void sendMPEPitchbendRange (int zone, int range);
+
+
+    /**
+     * Count the sent short messages and system exclusive bytes in the metrics registry.
+     *
+     * @param name The prefix for the names of the counters, e.g. the name of the controller
+     */
+    void registerMetrics (String name);
+
+
+    /**
+     * Set the recorder which records the sent messages. It is only set while a recording or replay
+     * is active, the messages must not be formatted for the recorder otherwise.
+     *
+     * @param recorder The recorder, null to stop recording
+     * @param name The name of the port in the recording
+     */
+    void setRecorder (MidiRecorder recorder, String name);
 }
\ No newline at end of file
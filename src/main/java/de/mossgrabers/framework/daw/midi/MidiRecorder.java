@@ -0,0 +1,401 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.midi.MidiRecording.Event;
+import de.mossgrabers.framework.metrics.Histogram;
+import de.mossgrabers.framework.metrics.MetricsRegistry;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Records the MIDI messages which the control surfaces receive and send and replays the received
+ * ones with their original timing. During a replay the sent messages are captured and compared
+ * with the ones of the recording. Together with the metrics this allows to reproduce a performance
+ * problem and to check that an optimization does not change the behaviour.
+ *
+ * Replayed messages are handed to the callbacks of the inputs. Controls which are bound to MIDI
+ * messages by the host (see IMidiInput.bind) are not triggered by a replay. Since the sent
+ * messages also depend on the state of the DAW project, a replay should start from the same
+ * project state as the recording.
+ *
+ * The project keeps sending updates on its own, e.g. the VU meters or the play position. Such
+ * updates are not caused by the replayed messages and their timing differs from the recording.
+ * Therefore, the comparison only covers the addresses (see Event.getAddress) which are not updated
+ * before the first received message, neither in the recording nor during a quiet time before the
+ * replay starts. For each of these addresses the last sent value is compared, since the number of
+ * intermediate values depends on the timing of the flushes.
+ *
+ * The recorder is only set on the ports while a recording or replay is active. Therefore, the
+ * ports format the messages only when they are recorded and the check for an active recording
+ * costs a single field read otherwise.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class MidiRecorder
+{
+    private static final MidiRecorder INSTANCE        = new MidiRecorder ();
+
+    /** Time to wait for the reactions to the last replayed message. */
+    private static final long         SETTLE_TIME     = 1000;
+    /** Time to collect the updates which the project sends on its own before the replay starts. */
+    private static final long         QUIET_TIME      = 1000;
+    /** The maximum number of differences which are printed. */
+    private static final int          MAX_DIFFERENCES = 20;
+
+    private final Map<String, Ports>  ports           = new HashMap<> ();
+    private final LongSupplier        clock;
+    private final Histogram           lag;
+    private final Histogram           handling;
+    private volatile MidiRecording    recording;
+    private volatile long             startTime;
+    private boolean                   isRecordingInput;
+    private boolean                   isReplaying;
+
+
+    /**
+     * Get the shared recorder.
+     *
+     * @return The recorder
+     */
+    public static MidiRecorder getInstance ()
+    {
+        return INSTANCE;
+    }
+
+
+    /**
+     * Constructor.
+     */
+    private MidiRecorder ()
+    {
+        this (System::nanoTime);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param clock Provides the current time in nanoseconds
+     */
+    MidiRecorder (final LongSupplier clock)
+    {
+        this.clock = clock;
+
+        final MetricsRegistry metrics = MetricsRegistry.getInstance ();
+        this.lag = metrics.getHistogram ("MIDI replay lag");
+        this.handling = metrics.getHistogram ("MIDI replay handling");
+    }
+
+
+    /**
+     * Register the MIDI ports of a control surface. If the name is already used by other ports a
+     * number is appended to it.
+     *
+     * @param name The name of the ports, e.g. the name of the controller
+     * @param input The MIDI input, may be null
+     * @param output The MIDI output, may be null
+     * @return The name of the ports in recordings, use it to unregister the ports
+     */
+    public synchronized String register (final String name, final IMidiInput input, final IMidiOutput output)
+    {
+        String portName = name;
+        for (int i = 2; this.ports.containsKey (portName); i++)
+            portName = name + " (" + i + ")";
+
+        final Ports added = new Ports (input, output);
+        this.ports.put (portName, added);
+        if (this.recording != null)
+            this.attach (portName, added);
+        return portName;
+    }
+
+
+    /**
+     * Unregister the MIDI ports of a control surface, e.g. on shutdown.
+     *
+     * @param name The name of the ports, which was returned when registering them
+     */
+    public synchronized void unregister (final String name)
+    {
+        final Ports removed = this.ports.remove (name);
+        if (removed != null)
+            detach (removed);
+    }
+
+
+    /**
+     * Start a new recording of the received and sent messages.
+     *
+     * @return False if a replay is running
+     */
+    public synchronized boolean startRecording ()
+    {
+        if (this.isReplaying)
+            return false;
+        this.start (true);
+        return true;
+    }
+
+
+    /**
+     * Stop the recording.
+     *
+     * @return The recording or null if there is no active recording
+     */
+    public synchronized MidiRecording stopRecording ()
+    {
+        if (this.isReplaying)
+            return null;
+        return this.stop ();
+    }
+
+
+    /**
+     * Add a received message to the active recording.
+     *
+     * @param port The name of the port
+     * @param data The message as a hex string without spaces
+     */
+    public void recordInput (final String port, final String data)
+    {
+        final MidiRecording rec = this.recording;
+        if (rec != null)
+            rec.add (this.getTime (), port, false, data);
+    }
+
+
+    /**
+     * Add a sent message to the active recording or replay.
+     *
+     * @param port The name of the port
+     * @param data The message as a hex string without spaces
+     */
+    public void recordOutput (final String port, final String data)
+    {
+        final MidiRecording rec = this.recording;
+        if (rec != null)
+            rec.add (this.getTime (), port, true, data);
+    }
+
+
+    /**
+     * Replay the received messages of the given recording. When finished, the sent messages are
+     * compared with the ones of the recording and the result is printed to the console.
+     *
+     * @param golden The recording to replay
+     * @param host The host for scheduling and logging
+     * @return False if a recording or replay is already running
+     */
+    public synchronized boolean replay (final MidiRecording golden, final IHost host)
+    {
+        if (this.recording != null)
+            return false;
+        this.isReplaying = true;
+        this.lag.reset ();
+        this.handling.reset ();
+        this.start (false);
+        new Replay (golden, host).run ();
+        return true;
+    }
+
+
+    private void start (final boolean recordInput)
+    {
+        this.isRecordingInput = recordInput;
+        this.startTime = this.clock.getAsLong ();
+        this.recording = new MidiRecording ();
+        this.ports.forEach (this::attach);
+    }
+
+
+    private MidiRecording stop ()
+    {
+        final MidiRecording result = this.recording;
+        this.recording = null;
+        this.ports.values ().forEach (MidiRecorder::detach);
+        return result;
+    }
+
+
+    private void attach (final String name, final Ports registered)
+    {
+        // The input is not recorded during a replay, the replayed messages are sent to it
+        if (this.isRecordingInput && registered.input () != null)
+            registered.input ().setRecorder (this, name);
+        if (registered.output () != null)
+            registered.output ().setRecorder (this, name);
+    }
+
+
+    private static void detach (final Ports registered)
+    {
+        if (registered.input () != null)
+            registered.input ().setRecorder (null, null);
+        if (registered.output () != null)
+            registered.output ().setRecorder (null, null);
+    }
+
+
+    private long getTime ()
+    {
+        return (this.clock.getAsLong () - this.startTime) / 1000000L;
+    }
+
+
+    private synchronized IMidiInput getInput (final String port)
+    {
+        final Ports registered = this.ports.get (port);
+        return registered == null ? null : registered.input ();
+    }
+
+
+    private synchronized MidiRecording stopReplay ()
+    {
+        this.isReplaying = false;
+        return this.stop ();
+    }
+
+
+    /**
+     * Sends the received messages of a recording step by step to the inputs. Only one task is
+     * scheduled at a time, which keeps the order of the messages. The first message is sent after
+     * the quiet time.
+     */
+    private class Replay implements Runnable
+    {
+        private final MidiRecording golden;
+        private final IHost         host;
+        private final List<Event>   events;
+        private final long          goldenStart;
+        private int                 index   = 0;
+        private int                 skipped = 0;
+
+
+        Replay (final MidiRecording golden, final IHost host)
+        {
+            this.golden = golden;
+            this.host = host;
+            this.events = golden.getEvents (false);
+            this.goldenStart = this.events.isEmpty () ? 0 : this.events.get (0).time ();
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void run ()
+        {
+            final long now = MidiRecorder.this.getTime ();
+            while (this.index < this.events.size () && this.getReplayTime (this.events.get (this.index)) <= now)
+            {
+                final Event event = this.events.get (this.index++);
+                MidiRecorder.this.lag.record ((now - this.getReplayTime (event)) * 1000000L);
+                final IMidiInput input = MidiRecorder.this.getInput (event.port ());
+                if (input == null)
+                {
+                    this.skipped++;
+                    continue;
+                }
+                final long start = System.nanoTime ();
+                if (event.isSysex ())
+                    input.receiveSysex (event.data ());
+                else
+                {
+                    final String data = event.data ();
+                    input.receiveMidi (StringUtils.fromHexStr (data, 0), StringUtils.fromHexStr (data, 1), StringUtils.fromHexStr (data, 2));
+                }
+                MidiRecorder.this.handling.recordSince (start);
+            }
+
+            if (this.index < this.events.size ())
+                this.host.getTimerService ().schedule (this, this.getReplayTime (this.events.get (this.index)) - now);
+            else
+                this.host.getTimerService ().schedule (this::finish, SETTLE_TIME);
+        }
+
+
+        private long getReplayTime (final Event event)
+        {
+            return event.time () - this.goldenStart + QUIET_TIME;
+        }
+
+
+        private void finish ()
+        {
+            final MidiRecording capture = MidiRecorder.this.stopReplay ();
+            this.host.println (String.format ("MIDI replay: %d received messages replayed, %d skipped (unknown port), lag mean %d us max %d us, handling mean %d us max %d us", Integer.valueOf (this.events.size () - this.skipped), Integer.valueOf (this.skipped), Long.valueOf (MidiRecorder.this.lag.getMean ()), Long.valueOf (MidiRecorder.this.lag.getMax ()), Long.valueOf (MidiRecorder.this.handling.getMean ()), Long.valueOf (MidiRecorder.this.handling.getMax ())));
+
+            final Set<String> ignored = new HashSet<> ();
+            final Map<String, String> expected = getLastValues (this.golden, this.goldenStart, ignored);
+            final Map<String, String> actual = getLastValues (capture, QUIET_TIME, ignored);
+            expected.keySet ().removeAll (ignored);
+            actual.keySet ().removeAll (ignored);
+
+            final Set<String> addresses = new TreeSet<> (expected.keySet ());
+            addresses.addAll (actual.keySet ());
+            int differences = 0;
+            for (final String address: addresses)
+            {
+                final String e = expected.get (address);
+                final String a = actual.get (address);
+                if (Objects.equals (e, a))
+                    continue;
+                differences++;
+                if (differences <= MAX_DIFFERENCES)
+                    this.host.println (String.format ("MIDI replay: %s expected %s, got %s", address, e == null ? "nothing" : e, a == null ? "nothing" : a));
+            }
+
+            if (differences == 0)
+                this.host.println (String.format ("MIDI replay: the last sent values of all %d addresses match the recording, %d addresses updated without input are ignored.", Integer.valueOf (addresses.size ()), Integer.valueOf (ignored.size ())));
+            else
+                this.host.println (String.format ("MIDI replay: %d of %d addresses differ, %d addresses updated without input are ignored.", Integer.valueOf (differences), Integer.valueOf (addresses.size ()), Integer.valueOf (ignored.size ())));
+        }
+
+
+        /**
+         * Get the last value sent to each address since the first received message. The addresses
+         * which were updated before are added to the ignored ones.
+         *
+         * @param recording The recording
+         * @param start The time of the first received message
+         * @param ignored Where to add the addresses which are updated without input
+         * @return The last sent value of each address
+         */
+        private static Map<String, String> getLastValues (final MidiRecording recording, final long start, final Set<String> ignored)
+        {
+            final Map<String, String> values = new HashMap<> ();
+            for (final Event event: recording.getEvents (true))
+            {
+                if (event.time () < start)
+                    ignored.add (event.getAddress ());
+                else
+                    values.put (event.getAddress (), event.data ());
+            }
+            return values;
+        }
+    }
+
+
+    /**
+     * The registered MIDI ports of a control surface.
+     *
+     * @param input The MIDI input, may be null
+     * @param output The MIDI output, may be null
+     */
+    private record Ports (IMidiInput input, IMidiOutput output)
+    {
+        // Intentionally empty
+    }
+}
@@ -0,0 +1,204 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A recording of the MIDI messages received and sent by one or more control surfaces. All messages
+ * are stored as hex strings without spaces, e.g. 'B0077F' for a short message or 'F0...F7' for a
+ * system exclusive message. A recording is stored as a text file with one message per line:
+ * time in milliseconds, the name of the port, 'IN' or 'OUT' and the data, separated by tabs.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class MidiRecording
+{
+    private static final String INPUT                = "IN";
+    private static final String OUTPUT               = "OUT";
+    /** The number of bytes of a system exclusive message which are used as its address. */
+    private static final int    SYSEX_ADDRESS_LENGTH = 8;
+
+    private final List<Event>   events               = new ArrayList<> ();
+
+
+    /**
+     * Add a message.
+     *
+     * @param time The time of the message in milliseconds since the start of the recording
+     * @param port The name of the port
+     * @param isOutput True if the message was sent to the device, false if it was received
+     * @param data The data of the message as a hex string
+     */
+    public synchronized void add (final long time, final String port, final boolean isOutput, final String data)
+    {
+        this.events.add (new Event (time, port, isOutput, data));
+    }
+
+
+    /**
+     * Get the recorded messages of one direction.
+     *
+     * @param isOutput True to get the sent messages, false to get the received messages
+     * @return The messages in the order of their recording
+     */
+    public synchronized List<Event> getEvents (final boolean isOutput)
+    {
+        final List<Event> result = new ArrayList<> ();
+        for (final Event event: this.events)
+        {
+            if (event.isOutput () == isOutput)
+                result.add (event);
+        }
+        return result;
+    }
+
+
+    /**
+     * Store the recording in a text file.
+     *
+     * @param file The file
+     * @throws IOException Could not write the file
+     */
+    public synchronized void save (final File file) throws IOException
+    {
+        final List<String> lines = new ArrayList<> (this.events.size ());
+        for (final Event event: this.events)
+            lines.add (event.time () + "\t" + event.port () + "\t" + (event.isOutput () ? OUTPUT : INPUT) + "\t" + event.data ());
+        Files.write (file.toPath (), lines, StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * Load a recording from a text file.
+     *
+     * @param file The file
+     * @return The recording
+     * @throws IOException Could not read the file or it has the wrong format
+     */
+    public static MidiRecording load (final File file) throws IOException
+    {
+        final MidiRecording recording = new MidiRecording ();
+        int lineNumber = 0;
+        for (final String line: Files.readAllLines (file.toPath (), StandardCharsets.UTF_8))
+        {
+            lineNumber++;
+            if (line.isBlank ())
+                continue;
+            final String [] parts = line.split ("\t");
+            if (parts.length != 4 || !INPUT.equals (parts[2]) && !OUTPUT.equals (parts[2]))
+                throw new IOException ("Wrong format in line " + lineNumber + " of " + file);
+            try
+            {
+                recording.add (Long.parseLong (parts[0]), parts[1], OUTPUT.equals (parts[2]), parts[3]);
+            }
+            catch (final NumberFormatException ex)
+            {
+                throw new IOException ("Wrong time in line " + lineNumber + " of " + file, ex);
+            }
+        }
+        return recording;
+    }
+
+
+    /**
+     * Format a MIDI short message.
+     *
+     * @param status The MIDI status byte
+     * @param data1 The MIDI data byte 1
+     * @param data2 The MIDI data byte 2
+     * @return The message as a hex string
+     */
+    public static String format (final int status, final int data1, final int data2)
+    {
+        return String.format ("%02X%02X%02X", Integer.valueOf (status & 0xFF), Integer.valueOf (data1 & 0xFF), Integer.valueOf (data2 & 0xFF));
+    }
+
+
+    /**
+     * Format a system exclusive message, removes all spaces.
+     *
+     * @param data The message formatted as a hex string, may contain spaces
+     * @return The message as an upper case hex string without spaces
+     */
+    public static String format (final String data)
+    {
+        final StringBuilder sb = new StringBuilder (data.length ());
+        for (int i = 0; i < data.length (); i++)
+        {
+            final char c = data.charAt (i);
+            if (Character.digit (c, 16) >= 0)
+                sb.append (Character.toUpperCase (c));
+        }
+        return sb.toString ();
+    }
+
+
+    /**
+     * Format a system exclusive message.
+     *
+     * @param data The message
+     * @return The message as an upper case hex string without spaces
+     */
+    public static String format (final byte [] data)
+    {
+        final StringBuilder sb = new StringBuilder (data.length * 2);
+        for (final byte d: data)
+            sb.append (String.format ("%02X", Integer.valueOf (Byte.toUnsignedInt (d))));
+        return sb.toString ();
+    }
+
+
+    /**
+     * A recorded MIDI message.
+     *
+     * @param time The time of the message in milliseconds since the start of the recording
+     * @param port The name of the port
+     * @param isOutput True if the message was sent to the device, false if it was received
+     * @param data The data of the message as a hex string
+     */
+    public record Event (long time, String port, boolean isOutput, String data)
+    {
+        /**
+         * Test if the message is a system exclusive message.
+         *
+         * @return True if system exclusive
+         */
+        public boolean isSysex ()
+        {
+            return this.data.startsWith ("F0");
+        }
+
+
+        /**
+         * Get the address of the message, which identifies the control of the device which is
+         * updated by the message: the port, the status byte and the first data byte if it is a
+         * note or controller number. For system exclusive messages the first bytes are used, which
+         * contain the manufacturer, the device and the command on most devices.
+         *
+         * @return The address
+         */
+        public String getAddress ()
+        {
+            final int length;
+            if (this.isSysex ())
+                length = 2 * SYSEX_ADDRESS_LENGTH;
+            else
+            {
+                final int code = StringUtils.fromHexStr (this.data, 0) & 0xF0;
+                length = code == 0xC0 || code == 0xD0 || code == 0xE0 ? 2 : 4;
+            }
+            return this.port + " " + this.data.substring (0, Math.min (length, this.data.length ()));
+        }
+    }
+}
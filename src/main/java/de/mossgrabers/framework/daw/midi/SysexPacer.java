@@ -0,0 +1,171 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Limits the number of system exclusive messages and bytes which are sent to a device per
+ * millisecond. Some devices drop messages if they are sent too fast, e.g. the Beatstep. Messages
+ * which exceed the budget are queued and sent later, therefore the caller is never blocked. The
+ * queue is drained by tasks which are scheduled with a delay of 1 millisecond since the resolution
+ * of the timer service is too coarse for this. A queued message is replaced if a newer one for the
+ * same target (e.g. a pad, a LED or a display line) is sent before it went out, so only the latest
+ * state is sent.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class SysexPacer
+{
+    private static final long         DRAIN_DELAY = 1;
+
+    private final IMidiOutput         output;
+    private final IHost               host;
+    private final int                 messagesPerMillisecond;
+    private final int                 bytesPerMillisecond;
+    private final Map<Object, String> queue       = new LinkedHashMap<> ();
+    private final long                maxMessageBudget;
+    private final long                maxByteBudget;
+    private long                      messageBudget;
+    private long                      byteBudget;
+    private long                      lastRefill  = System.nanoTime ();
+    private boolean                   isDrainScheduled;
+    private boolean                   isShutdown;
+
+
+    /**
+     * Constructor.
+     *
+     * @param output The output to which to send the messages
+     * @param host The host for scheduling the sending of the queued messages
+     * @param messagesPerMillisecond The number of messages which can be sent per millisecond, 0
+     *            for no limit
+     * @param bytesPerMillisecond The number of bytes which can be sent per millisecond, 0 for no
+     *            limit
+     */
+    public SysexPacer (final IMidiOutput output, final IHost host, final int messagesPerMillisecond, final int bytesPerMillisecond)
+    {
+        this.output = output;
+        this.host = host;
+        this.messagesPerMillisecond = messagesPerMillisecond;
+        this.bytesPerMillisecond = bytesPerMillisecond;
+
+        // No bursts, the device would drop the messages which exceed the budget of a millisecond
+        this.maxMessageBudget = messagesPerMillisecond;
+        this.maxByteBudget = bytesPerMillisecond;
+        this.messageBudget = this.maxMessageBudget;
+        this.byteBudget = this.maxByteBudget;
+    }
+
+
+    /**
+     * Send a system exclusive message as soon as the budget allows it.
+     *
+     * @param target The target of the message, a queued message for the same target is replaced
+     * @param data The message formatted as a hex string
+     */
+    public synchronized void sendSysex (final Object target, final String data)
+    {
+        // Keeps the position of a replaced message in the queue
+        this.queue.put (target, data);
+        if (!this.isDrainScheduled)
+            this.drain ();
+    }
+
+
+    /**
+     * Remove all queued messages.
+     */
+    public synchronized void clear ()
+    {
+        this.queue.clear ();
+    }
+
+
+    /**
+     * Send all queued messages (e.g. to turn off the LEDs of the device) and remove the remaining
+     * ones. Since the scheduled tasks are no longer executed on shutdown, this blocks until the
+     * budget allows to send each message.
+     */
+    public synchronized void shutdown ()
+    {
+        this.isShutdown = true;
+
+        try
+        {
+            while (!this.sendQueued ())
+                Thread.sleep (DRAIN_DELAY);
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+        this.clear ();
+    }
+
+
+    private synchronized void drain ()
+    {
+        this.isDrainScheduled = false;
+        if (this.sendQueued () || this.isShutdown)
+            return;
+        this.isDrainScheduled = true;
+        this.host.scheduleTask (this::drain, DRAIN_DELAY);
+    }
+
+
+    /**
+     * Send the queued messages as long as the budget allows it.
+     *
+     * @return True if all messages were sent
+     */
+    private boolean sendQueued ()
+    {
+        this.refill ();
+
+        final Iterator<String> iterator = this.queue.values ().iterator ();
+        while (iterator.hasNext ())
+        {
+            final String data = iterator.next ();
+            final int length = countBytes (data);
+            if ((this.messagesPerMillisecond > 0 && this.messageBudget < 1) || (this.bytesPerMillisecond > 0 && this.byteBudget < Math.min (length, this.maxByteBudget)))
+                return false;
+            iterator.remove ();
+            this.messageBudget--;
+            this.byteBudget -= length;
+            this.output.sendSysex (data);
+        }
+        return true;
+    }
+
+
+    private void refill ()
+    {
+        final long now = System.nanoTime ();
+        final long elapsed = (now - this.lastRefill) / 1000000L;
+        if (elapsed <= 0)
+            return;
+        this.lastRefill += elapsed * 1000000L;
+        this.messageBudget = Math.min (this.maxMessageBudget, this.messageBudget + elapsed * this.messagesPerMillisecond);
+        this.byteBudget = Math.min (this.maxByteBudget, this.byteBudget + elapsed * this.bytesPerMillisecond);
+    }
+
+
+    private static int countBytes (final String data)
+    {
+        int digits = 0;
+        for (int i = 0; i < data.length (); i++)
+        {
+            if (Character.digit (data.charAt (i), 16) >= 0)
+                digits++;
+        }
+        return digits / 2;
+    }
+}
@@ -11,8 +11,13 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.IObserverManagement;
+import de.mossgrabers.framework.observer.ObserverInterests;
 import de.mossgrabers.framework.view.Views;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * Abstract implementation of a feature group.
@@ -25,16 +30,19 @@ import de.mossgrabers.framework.view.Views;
 public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C extends Configuration> implements IFeatureGroup
 {
     /** Color identifier for a button which is off. */
-    public static final String     BUTTON_COLOR_OFF = "BUTTON_COLOR_OFF";
+    public static final String              BUTTON_COLOR_OFF  = "BUTTON_COLOR_OFF";
     /** Color identifier for a button which is on. */
-    public static final String     BUTTON_COLOR_ON  = "BUTTON_COLOR_ON";
+    public static final String              BUTTON_COLOR_ON   = "BUTTON_COLOR_ON";
+
+    protected final String                  name;
+    protected final S                       surface;
+    protected final IModel                  model;
 
-    protected final String         name;
-    protected final S              surface;
-    protected final IModel         model;
+    protected final ColorManager            colorManager;
+    protected final MVHelper<S, C>          mvHelper;
 
-    protected final ColorManager   colorManager;
-    protected final MVHelper<S, C> mvHelper;
+    private final List<IObserverManagement> observerInterests = new ArrayList<> ();
+    private boolean                         hasAcquiredInterests;
 
 
     /**
@@ -63,6 +71,41 @@ public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C exten
     }
 
 
+    /**
+     * Declare that the feature group reads the given feature of the model. The observers of the
+     * feature are only enabled while at least one interested feature group is active.
+     *
+     * @param feature The feature, e.g. the arranger
+     */
+    protected void addObserverInterest (final IObserverManagement feature)
+    {
+        if (feature == null)
+            return;
+        this.observerInterests.add (feature);
+        this.model.getObserverInterests ().manage (feature);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateObserverInterests (final boolean isActive)
+    {
+        // Acquire and release only once, the interests are counted
+        if (this.observerInterests.isEmpty () || this.hasAcquiredInterests == isActive)
+            return;
+        this.hasAcquiredInterests = isActive;
+
+        final ObserverInterests interests = this.model.getObserverInterests ();
+        for (final IObserverManagement feature: this.observerInterests)
+        {
+            if (isActive)
+                interests.acquire (feature);
+            else
+                interests.release (feature);
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getButtonColor (final ButtonID buttonID)
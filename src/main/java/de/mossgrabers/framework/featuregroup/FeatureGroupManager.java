@@ -11,6 +11,7 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Supplier;
 
 
 /**
@@ -24,6 +25,7 @@ import java.util.Map.Entry;
 public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
 {
     protected final Map<E, F>                         featureGroups;
+    private final Map<E, FeatureGroupFactory<F>>      factories;
 
     protected E                                       activeID          = null;
     protected E                                       previousID        = null;
@@ -42,6 +44,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     public FeatureGroupManager (final Class<E> clazz)
     {
         this.featureGroups = new EnumMap<> (clazz);
+        this.factories = new EnumMap<> (clazz);
     }
 
 
@@ -54,18 +57,45 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     public void register (final E featureGroupId, final F featureGroup)
     {
         this.featureGroups.put (featureGroupId, featureGroup);
+        this.factories.remove (featureGroupId);
     }
 
 
     /**
-     * Get the feature group with the given ID.
+     * Register a feature group, which is created when it is requested for the first time, e.g. when
+     * it is activated. The factory must not create any objects of the host API, since this is only
+     * possible during the initialisation of the extension.
+     *
+     * @param featureGroupId The ID of the feature group to register
+     * @param featureGroupName The name of the feature group, must be identical to the name of the
+     *            created feature group, since it is looked up without creating it
+     * @param factory Creates the feature group
+     */
+    public void register (final E featureGroupId, final String featureGroupName, final Supplier<F> factory)
+    {
+        this.featureGroups.remove (featureGroupId);
+        this.factories.put (featureGroupId, new FeatureGroupFactory<> (featureGroupName, factory));
+    }
+
+
+    /**
+     * Get the feature group with the given ID. Creates the feature group if it was registered with
+     * a factory and is requested for the first time.
      *
      * @param featureGroupId An ID
      * @return The feature group or null if no feature group with that ID is registered
      */
     public F get (final E featureGroupId)
     {
-        return this.featureGroups.get (featureGroupId);
+        final F featureGroup = this.featureGroups.get (featureGroupId);
+        if (featureGroup != null || featureGroupId == null)
+            return featureGroup;
+        final FeatureGroupFactory<F> factory = this.factories.remove (featureGroupId);
+        if (factory == null)
+            return null;
+        final F created = factory.factory ().get ();
+        this.register (featureGroupId, created);
+        return created;
     }
 
 
@@ -82,6 +112,13 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
             if (featureGroupName.equals (entry.getValue ().getName ()))
                 return entry.getKey ();
         }
+
+        // Feature groups which are not created yet
+        for (final Entry<E, FeatureGroupFactory<F>> entry: this.factories.entrySet ())
+        {
+            if (featureGroupName.equals (entry.getValue ().name ()))
+                return entry.getKey ();
+        }
         return null;
     }
 
@@ -127,13 +164,13 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         // Deactivate the current temporary or active feature group
         final F deactivate = this.getActive ();
         if (deactivate != null)
-            deactivate.onDeactivate ();
+            this.deactivate (deactivate);
         this.temporaryID = null;
 
         // Activate the feature group
         this.previousID = this.activeID;
         this.activeID = id;
-        this.get (this.activeID).onActivate ();
+        this.activate (this.get (this.activeID));
 
         if (syncSiblings)
             this.connectedManagers.forEach (sibling -> sibling.setActive (featureGroupID, false));
@@ -173,14 +210,14 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         // Deactivate the current temporary or active feature group
         final F deactivate = this.getActive ();
         if (deactivate != null)
-            deactivate.onDeactivate ();
+            this.deactivate (deactivate);
 
         // Activate the new temporary feature group
         this.temporaryID = featureGroupID;
         final F featureGroup = this.get (this.temporaryID);
         if (featureGroup == null)
             throw new FrameworkException ("Attempt to set the temporary feature group to non-existing: " + featureGroupID);
-        featureGroup.onActivate ();
+        this.activate (featureGroup);
 
         if (syncSiblings)
             this.connectedManagers.forEach (sibling -> sibling.setActive (featureGroupID, false));
@@ -257,7 +294,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     public F getActive ()
     {
         final E featureGroupID = this.getActiveID ();
-        return featureGroupID == null ? null : this.featureGroups.get (featureGroupID);
+        return featureGroupID == null ? null : this.get (featureGroupID);
     }
 
 
@@ -341,7 +378,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         if (this.temporaryID != null)
         {
             oldID = this.temporaryID;
-            this.get (this.temporaryID).onDeactivate ();
+            this.deactivate (this.get (this.temporaryID));
             this.temporaryID = null;
             F featureGroup = this.get (this.activeID);
             if (featureGroup == null)
@@ -349,12 +386,12 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
                 this.activeID = this.defaultID;
                 featureGroup = this.get (this.activeID);
             }
-            featureGroup.onActivate ();
+            this.activate (featureGroup);
         }
         else if (this.previousID != null)
         {
             oldID = this.activeID;
-            this.get (this.activeID).onDeactivate ();
+            this.deactivate (this.get (this.activeID));
             this.activeID = this.previousID;
             F featureGroup = this.get (this.activeID);
             if (featureGroup == null)
@@ -362,7 +399,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
                 this.activeID = this.defaultID;
                 featureGroup = this.get (this.activeID);
             }
-            featureGroup.onActivate ();
+            this.activate (featureGroup);
         }
 
         if (syncSiblings)
@@ -373,6 +410,45 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     }
 
 
+    private void activate (final F featureGroup)
+    {
+        activateFeatureGroup (featureGroup);
+    }
+
+
+    private void deactivate (final F featureGroup)
+    {
+        deactivateFeatureGroup (featureGroup);
+    }
+
+
+    /**
+     * Activate a feature group and acquire its observer interests. Use this for feature groups
+     * which are activated outside of a manager, e.g. modes which are always bound to dedicated
+     * controls.
+     *
+     * @param featureGroup The feature group to activate
+     */
+    public static void activateFeatureGroup (final IFeatureGroup featureGroup)
+    {
+        featureGroup.updateObserverInterests (true);
+        featureGroup.onActivate ();
+    }
+
+
+    /**
+     * Deactivate a feature group and release its observer interests. Use this for feature groups
+     * which are deactivated outside of a manager.
+     *
+     * @param featureGroup The feature group to deactivate
+     */
+    public static void deactivateFeatureGroup (final IFeatureGroup featureGroup)
+    {
+        featureGroup.onDeactivate ();
+        featureGroup.updateObserverInterests (false);
+    }
+
+
     /**
      * Register another manager. If a feature group changes all states are synchronized to the
      * registered siblings.
@@ -417,4 +493,17 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     {
         return this.connectedManagers;
     }
+
+
+    /**
+     * The name and the factory of a feature group which is not created yet.
+     *
+     * @param <F> The specific type of the feature group
+     * @param name The name of the feature group
+     * @param factory Creates the feature group
+     */
+    private record FeatureGroupFactory<F> (String name, Supplier<F> factory)
+    {
+        // Intentionally empty
+    }
 }
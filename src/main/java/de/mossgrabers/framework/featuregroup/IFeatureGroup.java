@@ -35,6 +35,16 @@ public interface IFeatureGroup
     void onDeactivate ();
 
 
+    /**
+     * Acquire or release the interests of the feature group in the features of the model. Called
+     * when the feature group is activated or deactivated. Has no effect if the interests are
+     * already acquired respectively released.
+     *
+     * @param isActive True if the feature group gets activated, false if it gets deactivated
+     */
+    void updateObserverInterests (boolean isActive);
+
+
     /**
      * Get the color for a button, which is controlled by the feature group.
      *
@@ -36,7 +36,7 @@ public class ViewManager extends FeatureGroupManager<Views, IView>
         super.register (viewId, view);
 
         // Make sure it is off until used
-        view.onDeactivate ();
+        deactivateFeatureGroup (view);
     }
 
 
@@ -13,6 +13,9 @@ import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLayout;
+
+import java.util.Objects;
 
 
 /**
@@ -23,30 +26,30 @@ import de.mossgrabers.framework.graphics.IImage;
 public class ChannelComponent extends ChannelSelectComponent
 {
     /** Edit volume. */
-    public static final int   EDIT_TYPE_VOLUME     = 0;
+    public static final int EDIT_TYPE_VOLUME     = 0;
     /** Edit panorama. */
-    public static final int   EDIT_TYPE_PAN        = 1;
+    public static final int EDIT_TYPE_PAN        = 1;
     /** Edit cross-fader setting. */
-    public static final int   EDIT_TYPE_CROSSFADER = 2;
+    public static final int EDIT_TYPE_CROSSFADER = 2;
     /** Edit all settings. */
-    public static final int   EDIT_TYPE_ALL        = 3;
-
-    private final double      editType;
-    private final double      volumeValue;
-    private final double      modulatedVolumeValue;
-    private final String      volumeText;
-    private final double      panValue;
-    private final double      modulatedPanValue;
-    private final String      panText;
-    private final double      vuValueLeft;
-    private final double      vuValueRight;
-    private final boolean     isMute;
-    private final boolean     isSolo;
-    private final boolean     isArm;
-    private final double      crossfadeMode;
-
-    private final boolean     isActive;
-    private final ChannelType type;
+    public static final int EDIT_TYPE_ALL        = 3;
+
+    private double          editType;
+    private double          volumeValue;
+    private double          modulatedVolumeValue;
+    private String          volumeText;
+    private double          panValue;
+    private double          modulatedPanValue;
+    private String          panText;
+    private double          vuValueLeft;
+    private double          vuValueRight;
+    private boolean         isMute;
+    private boolean         isSolo;
+    private boolean         isArm;
+    private double          crossfadeMode;
+
+    private boolean         isActive;
+    private ChannelType     type;
 
 
     /**
@@ -97,6 +100,59 @@ public class ChannelComponent extends ChannelSelectComponent
     }
 
 
+    /**
+     * Update all settings of the component.
+     *
+     * @param editType What to edit, 0 = Volume, 1 = Pan, 2 = Crossfade Mode
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     * @param type The type of the track
+     * @param volumeValue The value of the volume
+     * @param modulatedVolumeValue The modulated value of the volume, -1 if not modulated
+     * @param volumeText The textual form of the volumes value
+     * @param panValue The value of the panorama
+     * @param modulatedPanValue The modulated value of the panorama, -1 if not modulated
+     * @param panText The textual form of the panorama
+     * @param vuValueLeft The value of the VU of the left channel
+     * @param vuValueRight The value of the VU of the right channel
+     * @param isMute True if muted
+     * @param isSolo True if soloed
+     * @param isArm True if recording is armed
+     * @param isActive True if channel is activated
+     * @param crossfadeMode The cross-fader mode: 0 = A, 1 = AB, B = 2, -1 turns it off
+     * @param isPinned True if the channel is pinned
+     * @return True if at least one setting changed
+     */
+    public boolean update (final double editType, final String menuName, final boolean isMenuSelected, final String name, final ColorEx color, final boolean isSelected, final ChannelType type, final double volumeValue, final double modulatedVolumeValue, final String volumeText, final double panValue, final double modulatedPanValue, final String panText, final double vuValueLeft, final double vuValueRight, final boolean isMute, final boolean isSolo, final boolean isArm, final boolean isActive, final double crossfadeMode, final boolean isPinned)
+    {
+        final boolean hasChanged = this.update (menuName, isMenuSelected, name, getIcon (type, isPinned), color, isSelected, isActive, LabelLayout.COLORED);
+
+        if (this.editType == editType && this.volumeValue == volumeValue && this.modulatedVolumeValue == modulatedVolumeValue && this.panValue == panValue && this.modulatedPanValue == modulatedPanValue && this.vuValueLeft == vuValueLeft && this.vuValueRight == vuValueRight && this.isMute == isMute && this.isSolo == isSolo && this.isArm == isArm && this.crossfadeMode == crossfadeMode && this.isActive == isActive && this.type == type && Objects.equals (this.volumeText, volumeText) && Objects.equals (this.panText, panText))
+            return hasChanged;
+
+        this.type = type;
+        this.isActive = isActive;
+
+        this.editType = editType;
+        this.volumeValue = volumeValue;
+        this.modulatedVolumeValue = modulatedVolumeValue;
+        this.volumeText = volumeText;
+        this.panValue = panValue;
+        this.modulatedPanValue = modulatedPanValue;
+        this.panText = panText;
+        this.vuValueLeft = vuValueLeft;
+        this.vuValueRight = vuValueRight;
+        this.isMute = isMute;
+        this.isSolo = isSolo;
+        this.isArm = isArm;
+        this.crossfadeMode = crossfadeMode;
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
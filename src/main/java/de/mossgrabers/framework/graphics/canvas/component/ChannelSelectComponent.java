@@ -6,6 +6,7 @@ package de.mossgrabers.framework.graphics.canvas.component;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLayout;
 
 import java.util.EnumMap;
 
@@ -67,6 +68,24 @@ public class ChannelSelectComponent extends MenuComponent
     }
 
 
+    /**
+     * Update all settings of the component.
+     *
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     * @param type The type of the track
+     * @param isActive True if channel is activated
+     * @return True if at least one setting changed
+     */
+    public boolean update (final ChannelType type, final String menuName, final boolean isMenuSelected, final String name, final ColorEx color, final boolean isSelected, final boolean isActive)
+    {
+        return this.update (menuName, isMenuSelected, name, getIcon (type, false), color, isSelected, isActive, LabelLayout.COLORED);
+    }
+
+
     /**
      * Get the icon for the channel type.
      *
@@ -0,0 +1,198 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.display;
+
+import de.mossgrabers.framework.graphics.canvas.component.IComponent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * The drawing data of a graphics display. The display is divided into columns, each column (slot)
+ * keeps its component across frames. A frame fills the columns from left to right. If the
+ * component of a column has the same type as in the previous frame, it is updated in place instead
+ * of creating a new one. The changed columns are tracked in a bit mask (one bit per column) until
+ * the next rendering. The display is still repainted completely, since e.g. labels and option
+ * headers draw across the borders of their column, but renderers can use the mask to find the
+ * damaged columns.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class DisplayModel
+{
+    private final List<IComponent> components = new ArrayList<> (8);
+    private int                    column     = 0;
+    private String                 notification;
+    private long                   changedColumns;
+    private boolean                hasNotificationChanged;
+
+
+    /**
+     * Get the component of the next column for re-use.
+     *
+     * @param <T> The type of the component
+     * @param clazz The exact class of the component
+     * @return The component of the next column if it is of the given class, otherwise null. If a
+     *         component is returned, reuseComponent must be called after it was updated
+     */
+    public <T extends IComponent> T getReusableComponent (final Class<T> clazz)
+    {
+        if (this.column >= this.components.size ())
+            return null;
+        final IComponent component = this.components.get (this.column);
+        return component != null && component.getClass () == clazz ? clazz.cast (component) : null;
+    }
+
+
+    /**
+     * Keep the component of the next column, which was updated in place.
+     *
+     * @param hasChanged True if the update changed the component
+     */
+    public void reuseComponent (final boolean hasChanged)
+    {
+        if (hasChanged)
+            this.markColumnChanged (this.column);
+        this.column++;
+    }
+
+
+    /**
+     * Set the component of the next column. If the component is equal to the one of the previous
+     * frame, the previous one is kept and the column is not marked as changed.
+     *
+     * @param component The component
+     */
+    public void addComponent (final IComponent component)
+    {
+        if (this.column < this.components.size ())
+        {
+            if (!Objects.equals (this.components.get (this.column), component))
+            {
+                this.components.set (this.column, component);
+                this.markColumnChanged (this.column);
+            }
+        }
+        else
+        {
+            this.components.add (component);
+            this.markColumnChanged (this.column);
+        }
+        this.column++;
+    }
+
+
+    /**
+     * Set the notification message.
+     *
+     * @param notification The notification message, may be null
+     */
+    public void setNotification (final String notification)
+    {
+        if (Objects.equals (this.notification, notification))
+            return;
+        this.notification = notification;
+        this.hasNotificationChanged = true;
+    }
+
+
+    /**
+     * Get the notification message.
+     *
+     * @return The notification message, may be null
+     */
+    public String getNotification ()
+    {
+        return this.notification;
+    }
+
+
+    /**
+     * Ends the current frame. Columns which were not filled by the frame are removed and marked as
+     * changed.
+     *
+     * @return True if a column or the notification changed since the last call of clearChanges
+     */
+    public boolean endFrame ()
+    {
+        final int size = this.components.size ();
+        for (int i = this.column; i < size; i++)
+            this.markColumnChanged (i);
+        if (this.column < size)
+            this.components.subList (this.column, size).clear ();
+        this.column = 0;
+        return this.changedColumns != 0 || this.hasNotificationChanged;
+    }
+
+
+    /**
+     * Test if a column changed since the last call of clearChanges.
+     *
+     * @param column The index of the column
+     * @return True if changed
+     */
+    public boolean isColumnChanged (final int column)
+    {
+        return (this.changedColumns & columnBit (column)) != 0;
+    }
+
+
+    /**
+     * Get the changed columns since the last call of clearChanges.
+     *
+     * @return The bit mask of the changed columns, bit 0 is the first column. Columns beyond 63
+     *         share the highest bit
+     */
+    public long getChangedColumns ()
+    {
+        return this.changedColumns;
+    }
+
+
+    /**
+     * Test if the notification changed since the last call of clearChanges.
+     *
+     * @return True if changed
+     */
+    public boolean hasNotificationChanged ()
+    {
+        return this.hasNotificationChanged;
+    }
+
+
+    /**
+     * Reset the change flags, e.g. after the display was rendered.
+     */
+    public void clearChanges ()
+    {
+        this.changedColumns = 0;
+        this.hasNotificationChanged = false;
+    }
+
+
+    /**
+     * Get the components of the columns.
+     *
+     * @return The components
+     */
+    public List<IComponent> getComponents ()
+    {
+        return this.components;
+    }
+
+
+    private void markColumnChanged (final int column)
+    {
+        this.changedColumns |= columnBit (column);
+    }
+
+
+    private static long columnBit (final int column)
+    {
+        return 1L << Math.min (column, Long.SIZE - 1);
+    }
+}
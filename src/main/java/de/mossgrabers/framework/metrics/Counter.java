@@ -0,0 +1,58 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A counter which can be incremented from several threads with little contention.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class Counter
+{
+    private final LongAdder value = new LongAdder ();
+
+
+    /**
+     * Increment the counter by 1.
+     */
+    public void increment ()
+    {
+        this.value.increment ();
+    }
+
+
+    /**
+     * Add to the counter.
+     *
+     * @param amount The amount to add
+     */
+    public void add (final long amount)
+    {
+        this.value.add (amount);
+    }
+
+
+    /**
+     * Get the current value.
+     *
+     * @return The value
+     */
+    public long get ()
+    {
+        return this.value.sum ();
+    }
+
+
+    /**
+     * Set the counter back to 0.
+     */
+    public void reset ()
+    {
+        this.value.reset ();
+    }
+}
@@ -0,0 +1,126 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A histogram for durations with a fixed number of buckets. The bucket with index i counts the
+ * durations from 2^(i-1) to 2^i microseconds, the last bucket counts all longer durations.
+ * Recording does neither allocate nor lock.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class Histogram
+{
+    private static final int      NUM_BUCKETS = 24;
+
+    private final AtomicLongArray buckets     = new AtomicLongArray (NUM_BUCKETS);
+    private final AtomicLong      count       = new AtomicLong ();
+    private final AtomicLong      sum         = new AtomicLong ();
+    private final AtomicLong      max         = new AtomicLong ();
+
+
+    /**
+     * Add a duration.
+     *
+     * @param durationNanos The duration in nanoseconds
+     */
+    public void record (final long durationNanos)
+    {
+        final long micros = Math.max (0, durationNanos / 1000);
+        final int bucket = Math.min (NUM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros (micros));
+        this.buckets.incrementAndGet (bucket);
+        this.count.incrementAndGet ();
+        this.sum.addAndGet (micros);
+        this.max.accumulateAndGet (micros, Math::max);
+    }
+
+
+    /**
+     * Add the duration from the given start time until now.
+     *
+     * @param startNanos The start time retrieved from System.nanoTime
+     * @return The current time, which can be used as the start time of the next measurement
+     */
+    public long recordSince (final long startNanos)
+    {
+        final long now = System.nanoTime ();
+        this.record (now - startNanos);
+        return now;
+    }
+
+
+    /**
+     * Get the number of recorded durations.
+     *
+     * @return The number
+     */
+    public long getCount ()
+    {
+        return this.count.get ();
+    }
+
+
+    /**
+     * Get the average of the recorded durations.
+     *
+     * @return The average in microseconds
+     */
+    public long getMean ()
+    {
+        final long c = this.count.get ();
+        return c == 0 ? 0 : this.sum.get () / c;
+    }
+
+
+    /**
+     * Get the longest recorded duration.
+     *
+     * @return The duration in microseconds
+     */
+    public long getMax ()
+    {
+        return this.max.get ();
+    }
+
+
+    /**
+     * Get the upper bound of the bucket which contains the given percentile.
+     *
+     * @param percentile The percentile in the range of [0..1]
+     * @return The upper bound of the duration in microseconds
+     */
+    public long getPercentile (final double percentile)
+    {
+        final long c = this.count.get ();
+        if (c == 0)
+            return 0;
+        final long threshold = (long) Math.ceil (c * percentile);
+        long total = 0;
+        for (int i = 0; i < NUM_BUCKETS - 1; i++)
+        {
+            total += this.buckets.get (i);
+            if (total >= threshold)
+                return Math.min (1L << i, this.max.get ());
+        }
+        return this.max.get ();
+    }
+
+
+    /**
+     * Remove all recorded durations.
+     */
+    public void reset ()
+    {
+        for (int i = 0; i < NUM_BUCKETS; i++)
+            this.buckets.set (i, 0);
+        this.count.set (0);
+        this.sum.set (0);
+        this.max.set (0);
+    }
+}
@@ -0,0 +1,107 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+
+/**
+ * Registry for counters and histograms to measure where the time is spent and how much data is
+ * sent to the devices. The registry is shared by all controllers of the extension, therefore the
+ * names of the metrics should start with the unique name of the controller instance (see
+ * getInstanceName). The metrics are created when requested for the first time, the callers should
+ * keep a reference to them.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class MetricsRegistry
+{
+    private static final MetricsRegistry INSTANCE      = new MetricsRegistry ();
+
+    private final Map<String, Counter>   counters      = new ConcurrentSkipListMap<> ();
+    private final Map<String, Histogram> histograms    = new ConcurrentSkipListMap<> ();
+    private final Map<String, Integer>   instanceCount = new ConcurrentHashMap<> ();
+
+
+    /**
+     * Get the shared registry.
+     *
+     * @return The registry
+     */
+    public static MetricsRegistry getInstance ()
+    {
+        return INSTANCE;
+    }
+
+
+    /**
+     * Get a unique name for an instance, e.g. a control surface or device. The first instance with
+     * the given name keeps it, further instances get their number appended, e.g. 'MCU 1', 'MCU 1
+     * #2'. This is necessary since e.g. several instances of the same controller extension can be
+     * added to the project.
+     *
+     * @param name The name of the instance, e.g. 'MCU 1'
+     * @return The unique name
+     */
+    public String getInstanceName (final String name)
+    {
+        final int index = this.instanceCount.merge (name, Integer.valueOf (1), Integer::sum).intValue ();
+        return index == 1 ? name : name + " #" + index;
+    }
+
+
+    /**
+     * Get the counter with the given name. Creates it if it does not exist.
+     *
+     * @param name The name of the counter, e.g. 'Push 1 MIDI short messages'
+     * @return The counter
+     */
+    public Counter getCounter (final String name)
+    {
+        return this.counters.computeIfAbsent (name, key -> new Counter ());
+    }
+
+
+    /**
+     * Get the histogram with the given name. Creates it if it does not exist.
+     *
+     * @param name The name of the histogram, e.g. 'Push 1 flush'
+     * @return The histogram
+     */
+    public Histogram getHistogram (final String name)
+    {
+        return this.histograms.computeIfAbsent (name, key -> new Histogram ());
+    }
+
+
+    /**
+     * Set all metrics back to 0.
+     */
+    public void reset ()
+    {
+        this.counters.values ().forEach (Counter::reset);
+        this.histograms.values ().forEach (Histogram::reset);
+    }
+
+
+    /**
+     * Format all metrics as text, one line per metric sorted by the names.
+     *
+     * @return The text
+     */
+    public String format ()
+    {
+        final StringBuilder sb = new StringBuilder ("Metrics:\n");
+        this.histograms.forEach ( (name, histogram) -> {
+            final long count = histogram.getCount ();
+            if (count > 0)
+                sb.append (String.format ("%s: count=%d mean=%dus p50=%dus p99=%dus max=%dus%n", name, Long.valueOf (count), Long.valueOf (histogram.getMean ()), Long.valueOf (histogram.getPercentile (0.5)), Long.valueOf (histogram.getPercentile (0.99)), Long.valueOf (histogram.getMax ())));
+        });
+        this.counters.forEach ( (name, counter) -> sb.append (name).append (": ").append (counter.get ()).append ('\n'));
+        return sb.toString ();
+    }
+}
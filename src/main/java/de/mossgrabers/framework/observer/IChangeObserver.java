@@ -0,0 +1,19 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+/**
+ * An observer which is notified if any of the values of an object has changed.
+ *
+ * @author Jürgen Moßgraber
+ */
+@FunctionalInterface
+public interface IChangeObserver
+{
+    /**
+     * Called if one of the values has changed.
+     */
+    void changed ();
+}
@@ -0,0 +1,91 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * Counts the interest of modes and views in features of the model, e.g. the arranger or the
+ * groove. The observers of a feature are enabled as long as at least one active mode or view is
+ * interested in it and disabled if the last one is deactivated. This prevents that the host sends
+ * updates for values which are not displayed. It also prevents that deactivating one mode disables
+ * a feature which is still used by another active mode.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class ObserverInterests
+{
+    private final Map<IObserverManagement, Integer> interests = new IdentityHashMap<> ();
+
+
+    /**
+     * Register a feature which is only observed on demand. Its observers are disabled until there
+     * is an interest in it.
+     *
+     * @param feature The feature
+     */
+    public void manage (final IObserverManagement feature)
+    {
+        if (feature == null || this.interests.containsKey (feature))
+            return;
+        this.interests.put (feature, Integer.valueOf (0));
+        feature.enableObservers (false);
+    }
+
+
+    /**
+     * Add an interest in the given feature. Enables its observers if it is the first interest.
+     *
+     * @param feature The feature
+     */
+    public void acquire (final IObserverManagement feature)
+    {
+        if (feature == null)
+            return;
+        final int count = this.getCount (feature);
+        this.interests.put (feature, Integer.valueOf (count + 1));
+        if (count == 0)
+            feature.enableObservers (true);
+    }
+
+
+    /**
+     * Remove an interest in the given feature. Disables its observers if it was the last interest.
+     *
+     * @param feature The feature
+     */
+    public void release (final IObserverManagement feature)
+    {
+        if (feature == null)
+            return;
+        final int count = this.getCount (feature);
+        if (count == 0)
+            return;
+        this.interests.put (feature, Integer.valueOf (count - 1));
+        if (count == 1)
+            feature.enableObservers (false);
+    }
+
+
+    /**
+     * Test if there is at least one interest in the given feature.
+     *
+     * @param feature The feature
+     * @return True if observed
+     */
+    public boolean isInterested (final IObserverManagement feature)
+    {
+        return this.getCount (feature) > 0;
+    }
+
+
+    private int getCount (final IObserverManagement feature)
+    {
+        final Integer count = this.interests.get (feature);
+        return count == null ? 0 : count.intValue ();
+    }
+}
@@ -12,8 +12,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -27,10 +29,13 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     protected final IModel                         model;
     protected final IOpenSoundControlConfiguration configuration;
 
-    protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    protected final OpenSoundControlSubscriptions  subscriptions;
+    protected final Map<String, Object>            oldValues      = new HashMap<> ();
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private final List<IOpenSoundControlMessage>   messages       = new ArrayList<> ();
+    private final List<IOpenSoundControlMessage>   clientMessages = new ArrayList<> ();
+    private final Set<String>                      dirtyPrefixes  = new HashSet<> ();
+    private int                                    dumpClient     = -1;
 
 
     /**
@@ -42,14 +47,51 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      * @param configuration The OSC configuration
      */
     protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final IOpenSoundControlConfiguration configuration)
+    {
+        this (host, model, new OpenSoundControlSubscriptions (), configuration);
+
+        if (oscClient != null)
+            this.subscriptions.addClient (oscClient);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param model The model
+     * @param subscriptions The OSC clients to write to and the addresses they subscribed to
+     * @param configuration The OSC configuration
+     */
+    protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final OpenSoundControlSubscriptions subscriptions, final IOpenSoundControlConfiguration configuration)
     {
         this.host = host;
         this.model = model;
-        this.oscClient = oscClient;
+        this.subscriptions = subscriptions;
         this.configuration = configuration;
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void dump (final int clientIndex)
+    {
+        // The cache of the sent values is shared by all clients, therefore bring all clients up to
+        // date first, then the dump does not contain any changes which the others would miss
+        this.flush (false);
+
+        this.dumpClient = clientIndex;
+        try
+        {
+            this.flush (true);
+        }
+        finally
+        {
+            this.dumpClient = -1;
+        }
+    }
+
+
     /**
      * Send all collected messages.
      */
@@ -60,7 +102,8 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
 
     /**
-     * Send all collected messages.
+     * Send all collected messages. Each client only receives the messages it is subscribed to, all
+     * clients share the same message instances.
      *
      * @param updateAddress If this is not null it is sent before and after the flush with a value
      *            of 1 before and 0 after
@@ -72,23 +115,123 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
         synchronized (this.messages)
         {
-            try
+            if (updateAddress != null)
             {
-                if (updateAddress != null)
+                this.messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1))));
+                this.messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0))));
+            }
+
+            this.logMessages (this.messages);
+
+            for (int i = 0; i < this.subscriptions.getNumClients (); i++)
+            {
+                if (this.dumpClient >= 0 && i != this.dumpClient)
+                    continue;
+
+                final List<IOpenSoundControlMessage> messagesToSend = this.getClientMessages (i, updateAddress != null);
+                if (messagesToSend.isEmpty ())
+                    continue;
+
+                try
                 {
-                    this.messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1))));
-                    this.messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0))));
+                    this.subscriptions.getClient (i).sendBundle (messagesToSend);
+                }
+                catch (final IOException ex)
+                {
+                    this.model.getHost ().error ("Could not send UDP message.", ex);
                 }
-
-                this.logMessages (this.messages);
-                this.oscClient.sendBundle (this.messages);
             }
-            catch (final IOException ex)
+
+            this.messages.clear ();
+            this.clientMessages.clear ();
+        }
+    }
+
+
+    /**
+     * Get the messages to which the client is subscribed.
+     *
+     * @param clientIndex The index of the client
+     * @param hasUpdateMessages True if the first and last message are the update messages, which
+     *            are sent to all clients which receive any other message
+     * @return The messages
+     */
+    private List<IOpenSoundControlMessage> getClientMessages (final int clientIndex, final boolean hasUpdateMessages)
+    {
+        if (this.subscriptions.isSubscribedToAll (clientIndex))
+            return this.messages;
+
+        this.clientMessages.clear ();
+        final int size = this.messages.size ();
+        final int first = hasUpdateMessages ? 1 : 0;
+        final int last = hasUpdateMessages ? size - 1 : size;
+        for (int i = first; i < last; i++)
+        {
+            final IOpenSoundControlMessage message = this.messages.get (i);
+            if (this.subscriptions.accepts (clientIndex, message.getAddress ()))
+                this.clientMessages.add (message);
+        }
+
+        if (hasUpdateMessages && !this.clientMessages.isEmpty ())
+        {
+            this.clientMessages.add (0, this.messages.get (0));
+            this.clientMessages.add (this.messages.get (size - 1));
+        }
+        return this.clientMessages;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSubscribed (final String addressPrefix)
+    {
+        return this.subscriptions.isSubtreeSubscribed (addressPrefix);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void markDirty (final String addressPrefix)
+    {
+        synchronized (this.dirtyPrefixes)
+        {
+            this.dirtyPrefixes.add (addressPrefix);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isDirty (final String addressPrefix)
+    {
+        synchronized (this.dirtyPrefixes)
+        {
+            if (this.dirtyPrefixes.isEmpty ())
+                return false;
+
+            // Test the prefix and all its parents, e.g. '/track/1/', '/track/' and '/'
+            String prefix = addressPrefix;
+            while (true)
             {
-                this.model.getHost ().error ("Could not send UDP message.", ex);
+                if (this.dirtyPrefixes.contains (prefix))
+                    return true;
+                final int pos = prefix.lastIndexOf ('/', prefix.length () - 2);
+                if (pos < 0)
+                    return false;
+                prefix = prefix.substring (0, pos + 1);
             }
+        }
+    }
 
-            this.messages.clear ();
+
+    /**
+     * Reset all changed markers. Call after all values were flushed.
+     */
+    protected void clearDirty ()
+    {
+        synchronized (this.dirtyPrefixes)
+        {
+            this.dirtyPrefixes.clear ();
         }
     }
 
@@ -126,7 +269,12 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
         final int r = (int) Math.round (red * 255.0);
         final int g = (int) Math.round (green * 255.0);
         final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+
+        // Compare the packed color to prevent formatting the text if nothing has changed
+        final Integer testValue = Integer.valueOf (r << 16 | g << 8 | b);
+        if (!dump && compareValues (this.oldValues.get (address), testValue))
+            return;
+        this.sendOSC (address, address, testValue, "rgb(" + r + "," + g + "," + b + ")", true);
     }
 
 
@@ -191,6 +339,10 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
     {
+        // Not cached, therefore it is sent with the next dump after a client subscribed to it
+        if (!this.subscriptions.isSubscribed (address))
+            return;
+
         if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
             return;
         this.oldValues.put (cacheAddress, testValue);
@@ -218,7 +370,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     protected boolean isConnected ()
     {
-        return this.oscClient != null;
+        return this.subscriptions.getNumClients () > 0;
     }
 
 
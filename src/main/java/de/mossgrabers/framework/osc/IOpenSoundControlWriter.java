@@ -19,6 +19,44 @@ public interface IOpenSoundControlWriter
     void flush (boolean dump);
 
 
+    /**
+     * Send all values to one client, e.g. after it subscribed to new addresses. The other clients
+     * only receive the changed values.
+     *
+     * @param clientIndex The index of the client
+     */
+    void dump (int clientIndex);
+
+
+    /**
+     * Test if at least one client is subscribed to an address which starts with the given prefix.
+     * Use it to skip the evaluation of values which would not be sent anyway.
+     *
+     * @param addressPrefix The beginning of OSC addresses, e.g. '/track/1/'
+     * @return True if there is a subscription
+     */
+    boolean isSubscribed (String addressPrefix);
+
+
+    /**
+     * Mark all addresses which start with the given prefix as changed. Intended to be called from
+     * model observers.
+     *
+     * @param addressPrefix The beginning of OSC addresses, e.g. '/track/1/', '/' marks all
+     */
+    void markDirty (String addressPrefix);
+
+
+    /**
+     * Test if the addresses starting with the given prefix were marked as changed since the last
+     * flush. Use it to skip the evaluation of values which are covered by model observers.
+     *
+     * @param addressPrefix The beginning of OSC addresses, e.g. '/track/1/'
+     * @return True if changed
+     */
+    boolean isDirty (String addressPrefix);
+
+
     /**
      * Adds the message to the queue and calls flush.
      *
@@ -0,0 +1,278 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Registry for the OSC clients and the addresses they subscribed to. An address pattern consists
+ * of segments separated by slashes, a '*' matches any segment. A pattern also matches all
+ * addresses below it, e.g. '/track/*&#47;volume' matches '/track/1/volume' and '/track' matches
+ * all track addresses. A client which was added is subscribed to all addresses until it subscribes
+ * to a specific pattern.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OpenSoundControlSubscriptions
+{
+    private static final String [] ALL_ADDRESSES = new String [0];
+
+    private final List<Subscriber> subscribers   = new ArrayList<> ();
+    private volatile boolean       hasSubscriberForAll;
+
+
+    /**
+     * Add a client, which is subscribed to all addresses.
+     *
+     * @param client The client to add
+     * @return The index of the client
+     */
+    public synchronized int addClient (final IOpenSoundControlClient client)
+    {
+        final Subscriber subscriber = new Subscriber (client);
+        subscriber.patterns.add (ALL_ADDRESSES);
+        this.subscribers.add (subscriber);
+        this.updateSubscriberForAll ();
+        return this.subscribers.size () - 1;
+    }
+
+
+    /**
+     * Get the number of registered clients.
+     *
+     * @return The number of clients
+     */
+    public synchronized int getNumClients ()
+    {
+        return this.subscribers.size ();
+    }
+
+
+    /**
+     * Get a client.
+     *
+     * @param index The index of the client
+     * @return The client
+     */
+    public synchronized IOpenSoundControlClient getClient (final int index)
+    {
+        return this.subscribers.get (index).client;
+    }
+
+
+    /**
+     * Subscribe a client to all addresses matching the given pattern. If the client was subscribed
+     * to all addresses (the default) it is only subscribed to the given pattern afterwards.
+     * Subscribing to '/' subscribes to all addresses again.
+     *
+     * @param index The index of the client
+     * @param pattern The address pattern
+     */
+    public synchronized void subscribe (final int index, final String pattern)
+    {
+        final Subscriber subscriber = this.subscribers.get (index);
+        final String [] segments = parsePattern (pattern);
+        if (segments.length == 0 || subscriber.isSubscribedToAll ())
+            subscriber.patterns.clear ();
+        else if (indexOf (subscriber.patterns, segments) >= 0)
+            return;
+        subscriber.patterns.add (segments);
+        this.updateSubscriberForAll ();
+    }
+
+
+    /**
+     * Remove the subscription of a client for the given pattern. If the client has no
+     * subscriptions left, no messages are sent to it.
+     *
+     * @param index The index of the client
+     * @param pattern The address pattern which was used to subscribe
+     */
+    public synchronized void unsubscribe (final int index, final String pattern)
+    {
+        final Subscriber subscriber = this.subscribers.get (index);
+        final int position = indexOf (subscriber.patterns, parsePattern (pattern));
+        if (position >= 0)
+            subscriber.patterns.remove (position);
+        this.updateSubscriberForAll ();
+    }
+
+
+    /**
+     * Remove all subscriptions of a client.
+     *
+     * @param index The index of the client
+     */
+    public synchronized void unsubscribeAll (final int index)
+    {
+        this.subscribers.get (index).patterns.clear ();
+        this.updateSubscriberForAll ();
+    }
+
+
+    /**
+     * Test if a client is subscribed to all addresses.
+     *
+     * @param index The index of the client
+     * @return True if subscribed to all addresses
+     */
+    public synchronized boolean isSubscribedToAll (final int index)
+    {
+        return this.subscribers.get (index).isSubscribedToAll ();
+    }
+
+
+    /**
+     * Test if a client is subscribed to the given address.
+     *
+     * @param index The index of the client
+     * @param address The OSC address of a message
+     * @return True if a message with the address should be sent to the client
+     */
+    public synchronized boolean accepts (final int index, final String address)
+    {
+        return this.subscribers.get (index).matches (address, false);
+    }
+
+
+    /**
+     * Test if at least one client is subscribed to the given address.
+     *
+     * @param address The OSC address of a message
+     * @return True if the message needs to be sent
+     */
+    public boolean isSubscribed (final String address)
+    {
+        return this.hasSubscriberForAll || this.matchesAny (address, false);
+    }
+
+
+    /**
+     * Test if at least one client is subscribed to the given address or an address below it.
+     *
+     * @param addressPrefix The beginning of OSC addresses, e.g. '/track/1/'
+     * @return True if at least one message below the prefix needs to be sent
+     */
+    public boolean isSubtreeSubscribed (final String addressPrefix)
+    {
+        return this.hasSubscriberForAll || this.matchesAny (addressPrefix, true);
+    }
+
+
+    private synchronized boolean matchesAny (final String address, final boolean isPrefix)
+    {
+        for (final Subscriber subscriber: this.subscribers)
+        {
+            if (subscriber.matches (address, isPrefix))
+                return true;
+        }
+        return false;
+    }
+
+
+    private void updateSubscriberForAll ()
+    {
+        boolean result = false;
+        for (final Subscriber subscriber: this.subscribers)
+            result |= subscriber.isSubscribedToAll ();
+        this.hasSubscriberForAll = result;
+    }
+
+
+    private static String [] parsePattern (final String pattern)
+    {
+        final List<String> segments = new ArrayList<> ();
+        for (final String segment: pattern.split ("/"))
+        {
+            if (!segment.isEmpty ())
+                segments.add (segment);
+        }
+        return segments.toArray (new String [segments.size ()]);
+    }
+
+
+    private static int indexOf (final List<String []> patterns, final String [] segments)
+    {
+        for (int i = 0; i < patterns.size (); i++)
+        {
+            if (Arrays.equals (patterns.get (i), segments))
+                return i;
+        }
+        return -1;
+    }
+
+
+    /**
+     * Test if the address matches the segments of a pattern.
+     *
+     * @param pattern The segments of the pattern
+     * @param address The OSC address
+     * @param isPrefix If true, the address is the beginning of addresses, it matches if the
+     *            pattern matches at least one address below it
+     * @return True if it matches
+     */
+    private static boolean matches (final String [] pattern, final String address, final boolean isPrefix)
+    {
+        final int length = address.length ();
+        int start = 0;
+        for (final String segment: pattern)
+        {
+            while (start < length && address.charAt (start) == '/')
+                start++;
+            if (start >= length)
+                return isPrefix;
+
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+            final int segmentLength = segment.length ();
+            if (!"*".equals (segment) && (segmentLength != end - start || !address.regionMatches (start, segment, 0, segmentLength)))
+                return false;
+            start = end;
+        }
+        return true;
+    }
+
+
+    /**
+     * A client and its subscriptions.
+     */
+    private static class Subscriber
+    {
+        private final IOpenSoundControlClient client;
+        private final List<String []>         patterns = new ArrayList<> ();
+
+
+        Subscriber (final IOpenSoundControlClient client)
+        {
+            this.client = client;
+        }
+
+
+        boolean isSubscribedToAll ()
+        {
+            for (final String [] pattern: this.patterns)
+            {
+                if (pattern.length == 0)
+                    return true;
+            }
+            return false;
+        }
+
+
+        boolean matches (final String address, final boolean isPrefix)
+        {
+            for (final String [] pattern: this.patterns)
+            {
+                if (OpenSoundControlSubscriptions.matches (pattern, address, isPrefix))
+                    return true;
+            }
+            return false;
+        }
+    }
+}
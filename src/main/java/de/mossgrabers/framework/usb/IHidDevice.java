@@ -27,7 +27,8 @@ public interface IHidDevice
      * for explanation about numbered reports) the reportID needs to be specified otherwise pass
      * zero there. This method may or may not block. The method returning is no guarantee that the
      * data has been physically transmitted from the host to the device. The method returns the
-     * actual number of bytes successfully scheduled to be sent to the device.
+     * actual number of bytes successfully scheduled to be sent to the device. Each report is sent,
+     * use the method with a coalesce key to replace reports which are not yet sent.
      *
      * @param reportID The report (= function/method) number
      * @param memoryBlock The memory block with the data to send
@@ -36,6 +37,21 @@ public interface IHidDevice
     int sendOutputReport (byte reportID, IMemoryBlock memoryBlock);
 
 
+    /**
+     * Sends an output report to the device asynchronously. The content of the memory block is
+     * copied before the method returns, therefore the memory block can be re-used immediately.
+     * Reports with the same report ID and coalesce key which are still waiting for transmission
+     * are replaced by the newer one. Use different keys if the device multiplexes several
+     * independent data blocks over the same report ID (e.g. display lines).
+     *
+     * @param reportID The report (= function/method) number
+     * @param memoryBlock The memory block with the data to send
+     * @param coalesceKey Reports with the same ID and key replace each other while not yet sent
+     * @return The number of bytes scheduled for transmission or -1 if the call failed
+     */
+    int sendOutputReport (byte reportID, IMemoryBlock memoryBlock, int coalesceKey);
+
+
     /**
      * This method sends a feature report to the device. See the USB HID specification for more
      * information. This method may or may not block. The method returning is no guarantee that the
@@ -29,6 +29,9 @@ public class StringUtils
         'o'
     };
 
+    private static final NameCache OPTIMIZED_NAMES       = new NameCache ();
+    private static final NameCache OPTIMIZED_ASCII_NAMES = new NameCache ();
+
 
     /**
      * Constructor, private due to help class.
@@ -84,7 +87,12 @@ public class StringUtils
      */
     public static String shortenAndFixASCII (final String text, final int length)
     {
-        return optimizeName (fixASCII (text), length);
+        if (text == null)
+            return "";
+        final String cached = OPTIMIZED_ASCII_NAMES.get (text, length);
+        if (cached != null)
+            return cached;
+        return OPTIMIZED_ASCII_NAMES.put (text, length, shortenName (fixASCII (text), length));
     }
 
 
@@ -98,8 +106,16 @@ public class StringUtils
     {
         if (text == null)
             return "";
-        final StringBuilder str = new StringBuilder ();
-        for (int i = 0; i < text.length (); i++)
+
+        // Most texts are already ASCII only
+        int start = 0;
+        while (start < text.length () && text.charAt (start) <= 127)
+            start++;
+        if (start == text.length ())
+            return text;
+
+        final StringBuilder str = new StringBuilder (text.length () + 8).append (text, 0, start);
+        for (int i = start; i < text.length (); i++)
         {
             final char c = text.charAt (i);
             if (c > 127)
@@ -216,7 +232,9 @@ public class StringUtils
 
 
     /**
-     * Shortens a text to the given length.
+     * Shortens a text to the given length. Removes spaces first, then the vowels e, a, u, i and o
+     * (each from left to right) until the text fits. If it is still too long it is cut off. The
+     * results are cached since the same names are shortened on each display update.
      *
      * @param text The text to shorten
      * @param length The length to shorten to
@@ -226,21 +244,75 @@ public class StringUtils
     {
         if (text == null)
             return "";
+        if (text.length () <= length)
+            return text;
+        final String cached = OPTIMIZED_NAMES.get (text, length);
+        if (cached != null)
+            return cached;
+        return OPTIMIZED_NAMES.put (text, length, shortenName (text, length));
+    }
 
-        String shortened = text;
-        for (final char element: REMOVABLE_CHARS)
+
+    /**
+     * Shortens a text to the given length, see optimizeName. Counts the removable characters first
+     * to know which of them need to be removed, then creates the result in one pass.
+     *
+     * @param text The text to shorten
+     * @param length The length to shorten to
+     * @return The shortened text
+     */
+    private static String shortenName (final String text, final int length)
+    {
+        final int textLength = text.length ();
+        if (textLength <= length)
+            return text;
+
+        final int [] counts = new int [REMOVABLE_CHARS.length];
+        for (int i = 0; i < textLength; i++)
+        {
+            final int type = getRemovableType (text.charAt (i));
+            if (type >= 0)
+                counts[type]++;
+        }
+
+        // Characters of a type lower than lastType are all removed, of lastType only the first ones
+        int excess = textLength - length;
+        int lastType = -1;
+        int lastTypeRemovals = 0;
+        for (int type = 0; type < REMOVABLE_CHARS.length && excess > 0; type++)
+        {
+            lastType = type;
+            lastTypeRemovals = Math.min (counts[type], excess);
+            excess -= lastTypeRemovals;
+        }
+
+        final char [] result = new char [Math.max (0, length)];
+        int pos = 0;
+        for (int i = 0; i < textLength && pos < result.length; i++)
         {
-            if (shortened.length () <= length)
-                return shortened;
-            int pos;
-            while ((pos = shortened.indexOf (element)) != -1)
+            final char c = text.charAt (i);
+            final int type = getRemovableType (c);
+            if (type >= 0 && type < lastType)
+                continue;
+            if (type >= 0 && type == lastType && lastTypeRemovals > 0)
             {
-                shortened = shortened.substring (0, pos) + shortened.substring (pos + 1, shortened.length ());
-                if (shortened.length () <= length)
-                    return shortened;
+                lastTypeRemovals--;
+                continue;
             }
+            result[pos++] = c;
         }
-        return shortened.length () <= length ? shortened : shortened.substring (0, length);
+        return new String (result, 0, pos);
+    }
+
+
+    private static int getRemovableType (final char c)
+    {
+        for (int i = 0; i < REMOVABLE_CHARS.length; i++)
+        {
+            if (REMOVABLE_CHARS[i] == c)
+                return i;
+        }
+        return -1;
     }
 
 
@@ -521,4 +593,46 @@ public class StringUtils
     {
         return toHexStr (color.toIntRGB255 (), false);
     }
+
+
+    /**
+     * A cache for shortened names with a fixed number of slots. A new entry replaces the one in its
+     * slot. Since the same text objects are shortened again and again, the lookup first compares
+     * the references before comparing the characters.
+     */
+    private static final class NameCache
+    {
+        private static final int    SIZE    = 1024;
+
+        private final CacheEntry [] entries = new CacheEntry [SIZE];
+
+
+        String get (final String text, final int length)
+        {
+            final CacheEntry entry = this.entries[getSlot (text, length)];
+            if (entry != null && entry.length () == length && (entry.text () == text || entry.text ().equals (text)))
+                return entry.result ();
+            return null;
+        }
+
+
+        String put (final String text, final int length, final String result)
+        {
+            this.entries[getSlot (text, length)] = new CacheEntry (text, length, result);
+            return result;
+        }
+
+
+        private static int getSlot (final String text, final int length)
+        {
+            final int hash = text.hashCode () * 31 + length;
+            return (hash ^ hash >>> 16) & SIZE - 1;
+        }
+    }
+
+
+    private record CacheEntry (String text, int length, String result)
+    {
+        // Intentionally empty
+    }
 }
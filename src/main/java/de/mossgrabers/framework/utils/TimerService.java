@@ -0,0 +1,509 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+
+/**
+ * A timer service on top of the scheduling of the host. The tasks are stored in a hierarchical
+ * timing wheel, therefore only one task at a time is scheduled with the host, independent of the
+ * number of pending tasks. Tasks can be cancelled. Tasks can be registered with a key, which
+ * replaces (or keeps, see scheduleIfAbsent) a pending task with the same key. This prevents that
+ * several loops for the same purpose run in parallel, e.g. after quickly toggling a mode.
+ *
+ * The host usually executes its scheduled calls a bit late, depending on the computer and OS. The
+ * service measures this latency on each tick and requests the following ticks earlier by its
+ * average. Therefore, all users of the service share one continuous calibration.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class TimerService
+{
+    /** The resolution of the timer in milliseconds. */
+    public static final int         RESOLUTION          = 10;
+
+    private static final int        WHEEL_BITS          = 6;
+    private static final int        WHEEL_SIZE          = 1 << WHEEL_BITS;
+    private static final int        WHEEL_MASK          = WHEEL_SIZE - 1;
+    private static final int        LEVELS              = 3;
+    private static final int        NOT_QUEUED          = -1;
+    /** The weight of a new latency measurement in the average, as a power of 2. */
+    private static final int        LATENCY_WEIGHT_BITS = 3;
+
+    private final IHost             host;
+    private final LongSupplier      clock;
+    private final Object            lock                = new Object ();
+    private final Task [] []        wheels              = new Task [LEVELS] [WHEEL_SIZE];
+    private final Map<Object, Task> keyedTasks          = new HashMap<> ();
+    private final long              startTime;
+    private long                    currentTick         = 0;
+    private long                    wakeUpTick          = Long.MAX_VALUE;
+    private int                     queuedTasks         = 0;
+    private long                    latency             = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host which executes the timer ticks
+     */
+    public TimerService (final IHost host)
+    {
+        this (host, System::nanoTime);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host which executes the timer ticks
+     * @param clock Provides the current time in nanoseconds, e.g. a simulated clock for tests
+     */
+    public TimerService (final IHost host, final LongSupplier clock)
+    {
+        this.host = host;
+        this.clock = clock;
+        this.startTime = clock.getAsLong ();
+    }
+
+
+    /**
+     * Schedules the given task for execution after the given delay.
+     *
+     * @param task The task to execute
+     * @param delay The delay in milliseconds
+     * @return The handle of the task, which can be used to cancel it
+     */
+    public Task schedule (final Runnable task, final long delay)
+    {
+        synchronized (this.lock)
+        {
+            return this.add (null, task, delay, 0);
+        }
+    }
+
+
+    /**
+     * Schedules the given task for execution after the given delay. A pending task registered with
+     * the same key is cancelled.
+     *
+     * @param key The key which identifies the task
+     * @param task The task to execute
+     * @param delay The delay in milliseconds
+     * @return The handle of the task, which can be used to cancel it
+     */
+    public Task schedule (final Object key, final Runnable task, final long delay)
+    {
+        synchronized (this.lock)
+        {
+            this.cancelKey (key);
+            return this.add (key, task, delay, 0);
+        }
+    }
+
+
+    /**
+     * Schedules the given task for execution after the given delay but only if there is no task
+     * pending which is registered with the same key.
+     *
+     * @param key The key which identifies the task
+     * @param task The task to execute
+     * @param delay The delay in milliseconds
+     * @return The handle of the new task or of the already pending one
+     */
+    public Task scheduleIfAbsent (final Object key, final Runnable task, final long delay)
+    {
+        synchronized (this.lock)
+        {
+            final Task pending = this.keyedTasks.get (key);
+            if (pending != null)
+                return pending;
+            return this.add (key, task, delay, 0);
+        }
+    }
+
+
+    /**
+     * Schedules the given task for repeated execution. The first execution happens after one
+     * period. The execution times do not drift, if an execution is late, the following ones are
+     * still aligned to the period. A pending task registered with the same key is cancelled.
+     *
+     * @param key The key which identifies the task
+     * @param task The task to execute
+     * @param period The period in milliseconds
+     * @return The handle of the task, which can be used to cancel it
+     */
+    public Task schedulePeriodic (final Object key, final Runnable task, final long period)
+    {
+        synchronized (this.lock)
+        {
+            this.cancelKey (key);
+            return this.add (key, task, period, Math.max (1, toTicks (period)));
+        }
+    }
+
+
+    /**
+     * Cancel the task which is registered with the given key.
+     *
+     * @param key The key which identifies the task
+     * @return True if a pending task was cancelled
+     */
+    public boolean cancel (final Object key)
+    {
+        synchronized (this.lock)
+        {
+            return this.cancelKey (key);
+        }
+    }
+
+
+    /**
+     * Test if there is a pending task registered with the given key.
+     *
+     * @param key The key which identifies the task
+     * @return True if pending
+     */
+    public boolean isScheduled (final Object key)
+    {
+        synchronized (this.lock)
+        {
+            return this.keyedTasks.containsKey (key);
+        }
+    }
+
+
+    /**
+     * Cancel all pending tasks, e.g. on shutdown.
+     */
+    public void cancelAll ()
+    {
+        synchronized (this.lock)
+        {
+            for (final Task [] wheel: this.wheels)
+            {
+                for (int i = 0; i < WHEEL_SIZE; i++)
+                {
+                    for (Task task = wheel[i]; task != null; task = task.next)
+                        task.isDone = true;
+                    wheel[i] = null;
+                }
+            }
+            this.keyedTasks.clear ();
+            this.queuedTasks = 0;
+        }
+    }
+
+
+    private Task add (final Object key, final Runnable runnable, final long delay, final long period)
+    {
+        final long elapsedTicks = this.getElapsedTicks ();
+        if (this.queuedTasks == 0)
+            this.currentTick = Math.max (this.currentTick, elapsedTicks);
+
+        final Task task = new Task (key, runnable, period);
+        task.dueTick = Math.max (elapsedTicks, this.currentTick) + Math.max (1, toTicks (delay));
+        if (key != null)
+            this.keyedTasks.put (key, task);
+        this.insert (task);
+        this.updateWakeUp ();
+        return task;
+    }
+
+
+    private boolean cancelKey (final Object key)
+    {
+        final Task task = this.keyedTasks.get (key);
+        return task != null && this.cancelTask (task);
+    }
+
+
+    private boolean cancelTask (final Task task)
+    {
+        if (task.isDone)
+            return false;
+        task.isDone = true;
+        if (task.level != NOT_QUEUED)
+            this.remove (task);
+        if (task.key != null && this.keyedTasks.get (task.key) == task)
+            this.keyedTasks.remove (task.key);
+        return true;
+    }
+
+
+    /**
+     * Add the task to the slot of the wheel level which covers its due time.
+     *
+     * @param task The task to insert
+     */
+    private void insert (final Task task)
+    {
+        final long delta = task.dueTick - this.currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << WHEEL_BITS * (level + 1))
+            level++;
+
+        // Tasks beyond the range of the top level are re-inserted when their slot is cascaded
+        final long position = delta >= 1L << WHEEL_BITS * LEVELS ? (this.currentTick >> WHEEL_BITS * level) - 1 : task.dueTick >> WHEEL_BITS * level;
+        final int slot = (int) (position & WHEEL_MASK);
+
+        task.level = level;
+        task.slot = slot;
+        task.previous = null;
+        task.next = this.wheels[level][slot];
+        if (task.next != null)
+            task.next.previous = task;
+        this.wheels[level][slot] = task;
+        this.queuedTasks++;
+    }
+
+
+    private void remove (final Task task)
+    {
+        if (task.previous == null)
+            this.wheels[task.level][task.slot] = task.next;
+        else
+            task.previous.next = task.next;
+        if (task.next != null)
+            task.next.previous = task.previous;
+        task.previous = null;
+        task.next = null;
+        task.level = NOT_QUEUED;
+        this.queuedTasks--;
+    }
+
+
+    /**
+     * Called from the host when a tick is due.
+     *
+     * @param tick The tick for which the call was scheduled
+     * @param requestedTime The time for which the call was requested from the host, in nanoseconds
+     *            since the start of the service
+     */
+    private void handleTick (final long tick, final long requestedTime)
+    {
+        final List<Task> dueTasks = new ArrayList<> ();
+        synchronized (this.lock)
+        {
+            this.measureLatency (requestedTime);
+            if (tick == this.wakeUpTick)
+                this.wakeUpTick = Long.MAX_VALUE;
+            this.advance (dueTasks);
+        }
+
+        for (final Task task: dueTasks)
+        {
+            try
+            {
+                task.runnable.run ();
+            }
+            catch (final RuntimeException ex)
+            {
+                this.host.error ("Could not execute scheduled task.", ex);
+            }
+        }
+
+        synchronized (this.lock)
+        {
+            // The tasks might have taken longer than a period
+            final long elapsedTicks = Math.max (this.currentTick, this.getElapsedTicks ());
+            for (final Task task: dueTasks)
+            {
+                if (task.period > 0 && !task.isDone)
+                {
+                    // Keep the period aligned, skip the executions which were missed
+                    do
+                        task.dueTick += task.period;
+                    while (task.dueTick <= elapsedTicks);
+                    this.insert (task);
+                }
+            }
+            this.updateWakeUp ();
+        }
+    }
+
+
+    /**
+     * Move the wheel forward to the current time and collect all tasks which are due.
+     *
+     * @param dueTasks Where to add the due tasks
+     */
+    private void advance (final List<Task> dueTasks)
+    {
+        final long elapsedTicks = this.getElapsedTicks ();
+        if (this.queuedTasks == 0)
+        {
+            this.currentTick = Math.max (this.currentTick, elapsedTicks);
+            return;
+        }
+
+        while (this.currentTick < elapsedTicks)
+        {
+            this.currentTick++;
+
+            // Move the tasks of the higher levels down, which fall into the next period
+            for (int level = LEVELS - 1; level > 0; level--)
+            {
+                final int shift = WHEEL_BITS * level;
+                if ((this.currentTick & (1L << shift) - 1) == 0)
+                    this.cascade (level, (int) (this.currentTick >> shift & WHEEL_MASK), dueTasks);
+            }
+
+            final int slot = (int) (this.currentTick & WHEEL_MASK);
+            Task task = this.wheels[0][slot];
+            while (task != null)
+            {
+                final Task next = task.next;
+                this.remove (task);
+                this.collect (task, dueTasks);
+                task = next;
+            }
+        }
+    }
+
+
+    private void cascade (final int level, final int slot, final List<Task> dueTasks)
+    {
+        Task task = this.wheels[level][slot];
+        while (task != null)
+        {
+            final Task next = task.next;
+            this.remove (task);
+            if (task.dueTick <= this.currentTick)
+                this.collect (task, dueTasks);
+            else
+                this.insert (task);
+            task = next;
+        }
+    }
+
+
+    private void collect (final Task task, final List<Task> dueTasks)
+    {
+        if (task.period == 0)
+        {
+            task.isDone = true;
+            if (task.key != null && this.keyedTasks.get (task.key) == task)
+                this.keyedTasks.remove (task.key);
+        }
+        dueTasks.add (task);
+    }
+
+
+    /**
+     * Schedule a call from the host for the next tick which has a task or which requires a cascade
+     * of the higher levels, if there is not already an earlier one scheduled.
+     */
+    private void updateWakeUp ()
+    {
+        if (this.queuedTasks == 0)
+            return;
+
+        // Wake up at the latest on the next boundary of the lowest level for cascading
+        final long boundary = (this.currentTick | WHEEL_MASK) + 1;
+        long tick = this.currentTick + 1;
+        while (tick < boundary && this.wheels[0][(int) (tick & WHEEL_MASK)] == null)
+            tick++;
+
+        if (tick >= this.wakeUpTick)
+            return;
+
+        final long nextTick = tick;
+        this.wakeUpTick = nextTick;
+        final long now = this.clock.getAsLong () - this.startTime;
+        final long delay = Math.max (0, (nextTick * RESOLUTION * 1000000L - now - Math.max (0, this.latency)) / 1000000L);
+        // The latency is measured against the time which was requested from the host, which is
+        // earlier than the tick by the latency compensation
+        final long requestedTime = now + delay * 1000000L;
+        this.host.scheduleTask ( () -> this.handleTick (nextTick, requestedTime), delay);
+    }
+
+
+    /**
+     * Update the average of the delay between the time for which a call was requested from the
+     * host and the time when it was executed. An early call makes the average smaller, since the
+     * tick is requested again in that case.
+     *
+     * @param requestedTime The time for which the call was requested from the host, in nanoseconds
+     *            since the start of the service
+     */
+    private void measureLatency (final long requestedTime)
+    {
+        final long lateness = this.clock.getAsLong () - this.startTime - requestedTime;
+        this.latency += (lateness - this.latency) >> LATENCY_WEIGHT_BITS;
+    }
+
+
+    private long getElapsedTicks ()
+    {
+        return (this.clock.getAsLong () - this.startTime) / (RESOLUTION * 1000000L);
+    }
+
+
+    private static long toTicks (final long millis)
+    {
+        return (millis + RESOLUTION - 1) / RESOLUTION;
+    }
+
+
+    /**
+     * The handle of a scheduled task.
+     */
+    public final class Task
+    {
+        private final Object   key;
+        private final Runnable runnable;
+        private final long     period;
+        private long           dueTick;
+        private boolean        isDone;
+        private int            level = NOT_QUEUED;
+        private int            slot;
+        private Task           previous;
+        private Task           next;
+
+
+        Task (final Object key, final Runnable runnable, final long period)
+        {
+            this.key = key;
+            this.runnable = runnable;
+            this.period = period;
+        }
+
+
+        /**
+         * Cancel the task. Has no effect if the task was already executed or cancelled.
+         *
+         * @return True if the task was pending and is now cancelled
+         */
+        public boolean cancel ()
+        {
+            synchronized (TimerService.this.lock)
+            {
+                return TimerService.this.cancelTask (this);
+            }
+        }
+
+
+        /**
+         * Test if the task is still waiting for its (next) execution.
+         *
+         * @return True if pending
+         */
+        public boolean isPending ()
+        {
+            synchronized (TimerService.this.lock)
+            {
+                return !this.isDone;
+            }
+        }
+    }
+}
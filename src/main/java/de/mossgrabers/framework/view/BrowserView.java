@@ -72,6 +72,12 @@ public class BrowserView<S extends IControlSurface<C>, C extends Configuration>
         5
     };
 
+    private final int              offHandle;
+    private final int              discardHandle;
+    private final int              confirmHandle;
+    private final int              playHandle;
+    private final int []           columnHandles = new int [COLUMNS.length];
+
 
     /**
      * Constructor.
@@ -82,6 +88,13 @@ public class BrowserView<S extends IControlSurface<C>, C extends Configuration>
     public BrowserView (final S surface, final IModel model)
     {
         super (Views.NAME_BROWSER, surface, model);
+
+        this.offHandle = this.colorManager.getColorHandle (OFF);
+        this.discardHandle = this.colorManager.getColorHandle (DISCARD);
+        this.confirmHandle = this.colorManager.getColorHandle (CONFIRM);
+        this.playHandle = this.colorManager.getColorHandle (PLAY);
+        for (int i = 0; i < COLUMNS.length; i++)
+            this.columnHandles[i] = this.colorManager.getColorHandle (COLUMNS[i]);
     }
 
 
@@ -91,31 +104,31 @@ public class BrowserView<S extends IControlSurface<C>, C extends Configuration>
     {
         final IPadGrid padGrid = this.surface.getPadGrid ();
 
-        padGrid.light (36, DISCARD);
+        padGrid.lightHandle (36, this.discardHandle);
 
-        padGrid.light (37, OFF);
+        padGrid.lightHandle (37, this.offHandle);
 
         for (int i = 38; i < 42; i++)
-            padGrid.light (i, PLAY);
+            padGrid.lightHandle (i, this.playHandle);
 
-        padGrid.light (42, OFF);
+        padGrid.lightHandle (42, this.offHandle);
 
-        padGrid.light (43, CONFIRM);
+        padGrid.lightHandle (43, this.confirmHandle);
 
         for (int i = 44; i < 52; i++)
-            padGrid.light (i, OFF);
+            padGrid.lightHandle (i, this.offHandle);
 
         for (int i = 52; i < 60; i++)
-            padGrid.light (i, COLUMNS[i - 52]);
+            padGrid.lightHandle (i, this.columnHandles[i - 52]);
         for (int i = 60; i < 68; i++)
-            padGrid.light (i, COLUMNS[i - 60]);
+            padGrid.lightHandle (i, this.columnHandles[i - 60]);
         for (int i = 68; i < 76; i++)
-            padGrid.light (i, COLUMNS[i - 68]);
+            padGrid.lightHandle (i, this.columnHandles[i - 68]);
         for (int i = 76; i < 84; i++)
-            padGrid.light (i, COLUMNS[i - 76]);
+            padGrid.lightHandle (i, this.columnHandles[i - 76]);
 
         for (int i = 84; i < 100; i++)
-            padGrid.light (i, OFF);
+            padGrid.lightHandle (i, this.offHandle);
     }
 
 
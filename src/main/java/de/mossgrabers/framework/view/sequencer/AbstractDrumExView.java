@@ -58,6 +58,23 @@ public abstract class AbstractDrumExView<S extends IControlSurface<C>, C extends
     protected boolean          useExtraToggleButton            = true;
     protected int              firstExtraPad;
 
+    private final int          selectOnHandle;
+    private final int          selectOffHandle;
+    private final int          muteOnHandle;
+    private final int          muteOffHandle;
+    private final int          soloOnHandle;
+    private final int          soloOffHandle;
+    private final int          browseOnHandle;
+    private final int          browseOffHandle;
+    private final int          noteRepeatOnHandle;
+    private final int          noteRepeatOffHandle;
+    private final int          noteRepeatPeriodOnHandle;
+    private final int          noteRepeatPeriodOffHandle;
+    private final int          noteRepeatLengthOnHandle;
+    private final int          noteRepeatLengthOffHandle;
+    private final int          toggleOnHandle;
+    private final int          toggleOffHandle;
+
 
     /**
      * Constructor.
@@ -74,6 +91,23 @@ public abstract class AbstractDrumExView<S extends IControlSurface<C>, C extends
         super (name, surface, model, numSequencerLines, numPlayLines, useDawColors);
 
         this.firstExtraPad = (this.playRows - 2) * this.playColumns;
+
+        this.selectOnHandle = this.colorManager.getColorHandle (COLOR_EX_SELECT_ON);
+        this.selectOffHandle = this.colorManager.getColorHandle (COLOR_EX_SELECT_OFF);
+        this.muteOnHandle = this.colorManager.getColorHandle (COLOR_EX_MUTE_ON);
+        this.muteOffHandle = this.colorManager.getColorHandle (COLOR_EX_MUTE_OFF);
+        this.soloOnHandle = this.colorManager.getColorHandle (COLOR_EX_SOLO_ON);
+        this.soloOffHandle = this.colorManager.getColorHandle (COLOR_EX_SOLO_OFF);
+        this.browseOnHandle = this.colorManager.getColorHandle (COLOR_EX_BROWSE_ON);
+        this.browseOffHandle = this.colorManager.getColorHandle (COLOR_EX_BROWSE_OFF);
+        this.noteRepeatOnHandle = this.colorManager.getColorHandle (COLOR_EX_NOTE_REPEAT_ON);
+        this.noteRepeatOffHandle = this.colorManager.getColorHandle (COLOR_EX_NOTE_REPEAT_OFF);
+        this.noteRepeatPeriodOnHandle = this.colorManager.getColorHandle (COLOR_EX_NOTE_REPEAT_PERIOD_ON);
+        this.noteRepeatPeriodOffHandle = this.colorManager.getColorHandle (COLOR_EX_NOTE_REPEAT_PERIOD_OFF);
+        this.noteRepeatLengthOnHandle = this.colorManager.getColorHandle (COLOR_EX_NOTE_REPEAT_LENGTH_ON);
+        this.noteRepeatLengthOffHandle = this.colorManager.getColorHandle (COLOR_EX_NOTE_REPEAT_LENGTH_OFF);
+        this.toggleOnHandle = this.colorManager.getColorHandle (COLOR_EX_TOGGLE_ON);
+        this.toggleOffHandle = this.colorManager.getColorHandle (COLOR_EX_TOGGLE_OFF);
     }
 
 
@@ -143,20 +177,20 @@ public abstract class AbstractDrumExView<S extends IControlSurface<C>, C extends
         {
             int row = this.allRows - 2;
 
-            padGrid.lightEx (4, row, this.colorManager.getColorIndex (this.isSelectTrigger () ? COLOR_EX_SELECT_ON : COLOR_EX_SELECT_OFF));
-            padGrid.lightEx (5, row, this.colorManager.getColorIndex (this.isMuteTrigger () ? COLOR_EX_MUTE_ON : COLOR_EX_MUTE_OFF));
-            padGrid.lightEx (6, row, this.colorManager.getColorIndex (this.isSoloTrigger () ? COLOR_EX_SOLO_ON : COLOR_EX_SOLO_OFF));
-            padGrid.lightEx (7, row, this.colorManager.getColorIndex (this.isBrowseTrigger () ? COLOR_EX_BROWSE_ON : COLOR_EX_BROWSE_OFF));
+            padGrid.lightHandleEx (4, row, this.isSelectTrigger () ? this.selectOnHandle : this.selectOffHandle);
+            padGrid.lightHandleEx (5, row, this.isMuteTrigger () ? this.muteOnHandle : this.muteOffHandle);
+            padGrid.lightHandleEx (6, row, this.isSoloTrigger () ? this.soloOnHandle : this.soloOffHandle);
+            padGrid.lightHandleEx (7, row, this.isBrowseTrigger () ? this.browseOnHandle : this.browseOffHandle);
 
             final INoteRepeat noteRepeat = this.surface.getMidiInput ().getDefaultNoteInput ().getNoteRepeat ();
 
             row++;
-            padGrid.lightEx (4, row, this.colorManager.getColorIndex (noteRepeat.isActive () ? COLOR_EX_NOTE_REPEAT_ON : COLOR_EX_NOTE_REPEAT_OFF));
-            padGrid.lightEx (5, row, this.colorManager.getColorIndex (this.noteRepeatPeriodOn ? COLOR_EX_NOTE_REPEAT_PERIOD_ON : COLOR_EX_NOTE_REPEAT_PERIOD_OFF));
-            padGrid.lightEx (6, row, this.colorManager.getColorIndex (this.noteRepeatLengthOn ? COLOR_EX_NOTE_REPEAT_LENGTH_ON : COLOR_EX_NOTE_REPEAT_LENGTH_OFF));
+            padGrid.lightHandleEx (4, row, noteRepeat.isActive () ? this.noteRepeatOnHandle : this.noteRepeatOffHandle);
+            padGrid.lightHandleEx (5, row, this.noteRepeatPeriodOn ? this.noteRepeatPeriodOnHandle : this.noteRepeatPeriodOffHandle);
+            padGrid.lightHandleEx (6, row, this.noteRepeatLengthOn ? this.noteRepeatLengthOnHandle : this.noteRepeatLengthOffHandle);
         }
 
         if (this.useExtraToggleButton || this.extraButtonsOn)
-            padGrid.lightEx (7, this.allRows - 1, this.colorManager.getColorIndex (this.extraButtonsOn ? COLOR_EX_TOGGLE_ON : COLOR_EX_TOGGLE_OFF));
+            padGrid.lightHandleEx (7, this.allRows - 1, this.extraButtonsOn ? this.toggleOnHandle : this.toggleOffHandle);
     }
 }
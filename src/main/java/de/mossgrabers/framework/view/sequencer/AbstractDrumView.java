@@ -834,7 +834,10 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
             int y = col / this.numColumns;
             if (yModifier != null)
                 y = yModifier.applyAsInt (y);
-            padGrid.lightEx (x, y, isActive ? this.getStepColor (stepInfo, hilite, rowColor, notePosition.getChannel (), col, noteRow, editNotes) : AbstractSequencerView.COLOR_NO_CONTENT);
+            if (isActive)
+                padGrid.lightEx (x, y, this.getStepColor (stepInfo, hilite, rowColor, notePosition.getChannel (), col, noteRow, editNotes));
+            else
+                padGrid.lightHandleEx (x, y, this.noContentHandle);
         }
     }
 
@@ -878,7 +881,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         {
             final int x = this.playColumns + pad % this.playColumns;
             final int y = this.sequencerLines + pad / this.playColumns;
-            padGrid.lightEx (x, y, isActive ? this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightHandleEx (x, y, isActive ? this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad) : this.noContentHandle);
         }
     }
 
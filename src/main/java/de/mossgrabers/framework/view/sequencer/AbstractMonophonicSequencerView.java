@@ -73,7 +73,7 @@ public abstract class AbstractMonophonicSequencerView<S extends IControlSurface<
             final int y = col / this.numSequencerColumns;
 
             if (!isActive)
-                padGrid.lightEx (x, y, AbstractSequencerView.COLOR_NO_CONTENT);
+                padGrid.lightHandleEx (x, y, this.noContentHandle);
             else
             {
                 final int noteRow = clip.getHighestRow (channel, col);
@@ -297,7 +297,7 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
         final int loopEndPad = (int) Math.ceil ((loopStart + clip.getLoopLength ()) / lengthOfOnePad);
         final int currentPage = step / this.numDisplayCols;
         for (int pad = 0; pad < this.numDisplayCols; pad++)
-            gridPad.lightEx (pad, 0, this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad));
+            gridPad.lightHandleEx (pad, 0, this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad));
     }
 
 
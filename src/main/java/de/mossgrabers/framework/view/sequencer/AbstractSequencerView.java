@@ -81,6 +81,10 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
     protected final int           clipRows;
     protected final int           clipCols;
     protected final boolean       useDawColors;
+    protected final int           noContentHandle;
+    private final int             pageHandle;
+    private final int             activePageHandle;
+    private final int             selectedPageHandle;
 
     protected int                 numSequencerRows;
     protected final Configuration configuration;
@@ -126,6 +130,11 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
 
         this.configuration = this.surface.getConfiguration ();
 
+        this.noContentHandle = this.colorManager.getColorHandle (COLOR_NO_CONTENT);
+        this.pageHandle = this.colorManager.getColorHandle (COLOR_PAGE);
+        this.activePageHandle = this.colorManager.getColorHandle (COLOR_ACTIVE_PAGE);
+        this.selectedPageHandle = this.colorManager.getColorHandle (COLOR_SELECTED_PAGE);
+
         this.getClip ();
     }
 
@@ -278,20 +287,20 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      * @param playPage The page which contains the currently played step
      * @param selectedPage The page selected fpr editing
      * @param page The page for which to get the color
-     * @return The color to use
+     * @return The handle of the color to use
      */
-    protected String getPageColor (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int page)
+    protected int getPageColor (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int page)
     {
         if (page == playPage)
-            return AbstractSequencerView.COLOR_ACTIVE_PAGE;
+            return this.activePageHandle;
 
         if (page == selectedPage)
-            return AbstractSequencerView.COLOR_SELECTED_PAGE;
+            return this.selectedPageHandle;
 
         if (page < loopStartPage || page >= loopEndPage)
-            return AbstractSequencerView.COLOR_NO_CONTENT;
+            return this.noContentHandle;
 
-        return AbstractSequencerView.COLOR_PAGE;
+        return this.pageHandle;
     }
 
 
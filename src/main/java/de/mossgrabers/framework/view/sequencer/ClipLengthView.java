@@ -41,6 +41,8 @@ public class ClipLengthView<S extends IControlSurface<C>, C extends Configuratio
     };
 
     private final ITransport    transport;
+    private final int           outsideHandle;
+    private final int           partHandle;
     private int                 padResolution    = 0;
     private int                 firstPressedPad  = -1;
     private boolean             hasSecondPressed = false;
@@ -58,6 +60,8 @@ public class ClipLengthView<S extends IControlSurface<C>, C extends Configuratio
         super (Views.NAME_CLIP_LENGTH, surface, model, 0, 0, useDawColors);
 
         this.transport = model.getTransport ();
+        this.outsideHandle = this.colorManager.getColorHandle (COLOR_OUTSIDE);
+        this.partHandle = this.colorManager.getColorHandle (COLOR_PART);
     }
 
 
@@ -129,12 +133,12 @@ public class ClipLengthView<S extends IControlSurface<C>, C extends Configuratio
         final int loopStartPad = (int) Math.floor (Math.max (0, start) / quartersPerPad);
         final int loopEndPad = (int) Math.ceil (Math.min (maxQuarters, start + clip.getLoopLength ()) / quartersPerPad);
 
-        final String clipColor = this.useDawColors ? DAWColor.getColorID (clip.getColor ()) : COLOR_PART;
+        final int clipHandle = this.useDawColors ? this.colorManager.getColorHandle (DAWColor.getColorID (clip.getColor ())) : this.partHandle;
         final IPadGrid padGrid = this.surface.getPadGrid ();
         final int cols = padGrid.getCols ();
 
         for (int pad = 0; pad < 64; pad++)
-            padGrid.lightEx (pad % cols, pad / cols, pad >= loopStartPad && pad < loopEndPad ? clipColor : COLOR_OUTSIDE);
+            padGrid.lightHandleEx (pad % cols, pad / cols, pad >= loopStartPad && pad < loopEndPad ? clipHandle : this.outsideHandle);
     }
 
 
@@ -0,0 +1,342 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.utils.TimerService;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Tests for the recording and replay of MIDI messages. The host and the clock are simulated. A
+ * scripted device answers the received messages: a note switches the LED of the pad on or off, a
+ * controller sends the value to the display with a system exclusive message. Independent of the
+ * input, the device sends a meter value every 100ms like a VU meter of the project. The golden file
+ * contains the recording of the scripted performance.
+ *
+ * @author Jürgen Moßgraber
+ */
+class MidiRecorderTest
+{
+    private static final long   MILLIS        = 1000000L;
+    private static final String GOLDEN_FILE   = "golden-replay.txt";
+    private static final String PORT          = "Pads 1";
+
+    private final List<Call>    hostCalls     = new ArrayList<> ();
+    private final List<String>  printed       = new ArrayList<> ();
+    private long                now           = 1000 * MILLIS;
+    private final IHost         host;
+    private final TimerService  timerService;
+    private final MidiRecorder  recorder;
+    private final ScriptedInput input         = new ScriptedInput ();
+    private final TestOutput    output        = new TestOutput ();
+    private int                 ledOnVelocity = 127;
+    private int                 meter;
+
+
+    /**
+     * Constructor.
+     */
+    MidiRecorderTest ()
+    {
+        this.host = (IHost) Proxy.newProxyInstance (IHost.class.getClassLoader (), new Class<?> []
+        {
+            IHost.class
+        }, (proxy, method, args) -> {
+            switch (method.getName ())
+            {
+                case "scheduleTask":
+                    this.hostCalls.add (new Call ((Runnable) args[0], this.now + ((Long) args[1]).longValue () * MILLIS));
+                    break;
+                case "getTimerService":
+                    return this.getTimerService ();
+                case "println":
+                    this.printed.add ((String) args[0]);
+                    break;
+                case "error":
+                    throw new AssertionError (args[0]);
+                default:
+                    break;
+            }
+            return null;
+        });
+        this.timerService = new TimerService (this.host, () -> this.now);
+        this.recorder = new MidiRecorder ( () -> this.now);
+        assertEquals (PORT, this.recorder.register (PORT, this.input.proxy, this.output));
+
+        this.input.callback = this::handleMidi;
+        this.timerService.schedulePeriodic (this, this::sendMeter, 100);
+    }
+
+
+    @Test
+    void testPortsAreOnlyAttachedWhileActive () throws IOException, URISyntaxException
+    {
+        assertNull (this.input.recorder);
+        assertNull (this.output.getRecorder ());
+
+        this.recorder.startRecording ();
+        assertSame (this.recorder, this.input.recorder);
+        assertSame (this.recorder, this.output.getRecorder ());
+        assertNotNull (this.recorder.stopRecording ());
+        assertNull (this.input.recorder);
+        assertNull (this.output.getRecorder ());
+
+        // The replayed messages are not recorded again
+        this.recorder.replay (MidiRecording.load (getGoldenFile ()), this.host);
+        assertNull (this.input.recorder);
+        assertSame (this.recorder, this.output.getRecorder ());
+        this.runUntil (10000);
+        assertNull (this.output.getRecorder ());
+
+        // Ports which are registered during a recording are attached
+        this.recorder.startRecording ();
+        final TestOutput other = new TestOutput ();
+        assertEquals (PORT + " (2)", this.recorder.register (PORT, null, other));
+        assertSame (this.recorder, other.getRecorder ());
+        this.recorder.unregister (PORT + " (2)");
+        assertNull (other.getRecorder ());
+    }
+
+
+    @Test
+    void testRecordingMatchesGolden () throws IOException, URISyntaxException
+    {
+        this.runUntil (50);
+        this.recorder.startRecording ();
+        this.perform ();
+        this.runUntil (1000);
+        final MidiRecording recording = this.recorder.stopRecording ();
+
+        final File file = File.createTempFile ("recording", ".txt");
+        try
+        {
+            recording.save (file);
+            assertEquals (Files.readAllLines (getGoldenFile ().toPath (), StandardCharsets.UTF_8), Files.readAllLines (file.toPath (), StandardCharsets.UTF_8));
+        }
+        finally
+        {
+            Files.delete (file.toPath ());
+        }
+    }
+
+
+    @Test
+    void testReplayMatchesGolden () throws IOException, URISyntaxException
+    {
+        this.runUntil (30);
+        assertTrue (this.recorder.replay (MidiRecording.load (getGoldenFile ()), this.host));
+        this.runUntil (10000);
+
+        assertEquals (2, this.printed.size (), String.join ("\n", this.printed));
+        assertTrue (this.printed.get (0).startsWith ("MIDI replay: 4 received messages replayed, 0 skipped"), this.printed.get (0));
+        assertTrue (this.printed.get (1).startsWith ("MIDI replay: the last sent values of all 3 addresses match the recording, 1 addresses updated without input are ignored."), this.printed.get (1));
+    }
+
+
+    @Test
+    void testReplayReportsDifferences () throws IOException, URISyntaxException
+    {
+        this.ledOnVelocity = 64;
+
+        assertTrue (this.recorder.replay (MidiRecording.load (getGoldenFile ()), this.host));
+        this.runUntil (10000);
+
+        assertEquals (List.of ("MIDI replay: Pads 1 9025 expected 90257F, got 902540", "MIDI replay: 1 of 3 addresses differ, 1 addresses updated without input are ignored."), this.printed.subList (1, this.printed.size ()));
+    }
+
+
+    /**
+     * Send the messages of the performance from the device.
+     */
+    private void perform ()
+    {
+        this.receiveAt (200, 0x90, 0x24, 0x7F);
+        this.receiveAt (300, 0x90, 0x24, 0x00);
+        this.receiveAt (420, 0xB0, 0x07, 0x40);
+        this.receiveAt (510, 0x90, 0x25, 0x7F);
+    }
+
+
+    private void receiveAt (final long time, final int status, final int data1, final int data2)
+    {
+        this.runUntil (time);
+        this.input.receiveFromDevice (status, data1, data2);
+    }
+
+
+    private void handleMidi (final int status, final int data1, final int data2)
+    {
+        if (status == 0x90)
+            this.output.sendNote (data1, data2 > 0 ? this.ledOnVelocity : 0);
+        else if (status == 0xB0)
+            this.output.sendSysex ("F0 00 21 09 " + StringUtils.toHexStr (data2) + " F7");
+    }
+
+
+    private void sendMeter ()
+    {
+        this.meter = (this.meter + 1) % 128;
+        this.output.sendCC (0x50, this.meter);
+    }
+
+
+    private TimerService getTimerService ()
+    {
+        return this.timerService;
+    }
+
+
+    private static File getGoldenFile () throws URISyntaxException
+    {
+        final URL resource = MidiRecorderTest.class.getResource (GOLDEN_FILE);
+        assertNotNull (resource, "Golden file not found: " + GOLDEN_FILE);
+        return new File (resource.toURI ());
+    }
+
+
+    /**
+     * Executes the calls scheduled with the host up to the given time in the order of their due
+     * time. The clock jumps to the due time of each call.
+     *
+     * @param millis The time in milliseconds since the start of the test
+     */
+    private void runUntil (final long millis)
+    {
+        final long end = 1000 * MILLIS + millis * MILLIS;
+        while (true)
+        {
+            Call next = null;
+            for (final Call call: this.hostCalls)
+            {
+                if (next == null || call.time < next.time)
+                    next = call;
+            }
+            if (next == null || next.time > end)
+                break;
+
+            this.hostCalls.remove (next);
+            this.now = Math.max (this.now, next.time);
+            next.task.run ();
+        }
+        this.now = Math.max (this.now, end);
+    }
+
+
+    /**
+     * A MIDI input which passes the messages of the device to the callback and records them like
+     * the input implementation of the host.
+     */
+    private static class ScriptedInput
+    {
+        private final IMidiInput  proxy;
+        private MidiShortCallback callback;
+        private MidiRecorder      recorder;
+        private String            recorderName;
+
+
+        ScriptedInput ()
+        {
+            this.proxy = (IMidiInput) Proxy.newProxyInstance (IMidiInput.class.getClassLoader (), new Class<?> []
+            {
+                IMidiInput.class
+            }, (p, method, args) -> {
+                switch (method.getName ())
+                {
+                    case "setRecorder":
+                        this.recorder = (MidiRecorder) args[0];
+                        this.recorderName = (String) args[1];
+                        break;
+                    case "receiveMidi":
+                        this.callback.handleMidi (((Integer) args[0]).intValue (), ((Integer) args[1]).intValue (), ((Integer) args[2]).intValue ());
+                        break;
+                    default:
+                        throw new UnsupportedOperationException (method.getName ());
+                }
+                return null;
+            });
+        }
+
+
+        void receiveFromDevice (final int status, final int data1, final int data2)
+        {
+            if (this.recorder != null)
+                this.recorder.recordInput (this.recorderName, MidiRecording.format (status, data1, data2));
+            this.proxy.receiveMidi (status, data1, data2);
+        }
+    }
+
+
+    /**
+     * A MIDI output which only records the sent messages.
+     */
+    private static class TestOutput extends AbstractMidiOutput
+    {
+        private MidiRecorder recorder;
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void setRecorder (final MidiRecorder recorder, final String name)
+        {
+            super.setRecorder (recorder, name);
+            this.recorder = recorder;
+        }
+
+
+        MidiRecorder getRecorder ()
+        {
+            return this.recorder;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void sendSysex (final byte [] data)
+        {
+            this.countSysex (data);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void sendSysex (final String data)
+        {
+            this.countSysex (data);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected void sendMidiShort (final int status, final int data1, final int data2)
+        {
+            this.countShortMessage (status, data1, data2);
+        }
+    }
+
+
+    private record Call (Runnable task, long time)
+    {
+        // Intentionally empty
+    }
+}
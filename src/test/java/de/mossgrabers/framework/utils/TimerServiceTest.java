@@ -0,0 +1,304 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Tests for the timer service. The host and the clock are simulated, the calls scheduled with the
+ * host are executed in the order of their due time and the clock jumps to that time (plus an
+ * optional latency of the host).
+ *
+ * @author Jürgen Moßgraber
+ */
+class TimerServiceTest
+{
+    private static final long   MILLIS     = 1000000L;
+    private static final long   TICK       = TimerService.RESOLUTION;
+    /** The number of ticks covered by the lowest level of the wheel. */
+    private static final long   LEVEL_1    = 64;
+    /** The number of ticks covered by the two lower levels of the wheel. */
+    private static final long   LEVEL_2    = LEVEL_1 * 64;
+    /** The number of ticks covered by all levels of the wheel. */
+    private static final long   LEVEL_3    = LEVEL_2 * 64;
+
+    private final List<Call>    hostCalls  = new ArrayList<> ();
+    private final List<Long>    executions = new ArrayList<> ();
+    private long                now        = 1000 * MILLIS;
+    private long                hostLatency;
+    private final TimerService  timerService;
+
+
+    /**
+     * Constructor.
+     */
+    TimerServiceTest ()
+    {
+        final IHost host = (IHost) Proxy.newProxyInstance (IHost.class.getClassLoader (), new Class<?> []
+        {
+            IHost.class
+        }, (proxy, method, args) -> {
+            if ("scheduleTask".equals (method.getName ()))
+                this.hostCalls.add (new Call ((Runnable) args[0], this.now + ((Long) args[1]).longValue () * MILLIS));
+            else if ("error".equals (method.getName ()))
+                throw new AssertionError (args[0]);
+            return null;
+        });
+        this.timerService = new TimerService (host, () -> this.now);
+    }
+
+
+    @Test
+    void testTasksAtWheelLevelBoundaries ()
+    {
+        final long [] delays =
+        {
+            1,
+            LEVEL_1 - 1,
+            LEVEL_1,
+            LEVEL_1 + 1,
+            LEVEL_2 - 1,
+            LEVEL_2,
+            LEVEL_2 + 1,
+            LEVEL_3 - 1,
+            LEVEL_3,
+            LEVEL_3 + 1,
+            2 * LEVEL_3 + 3
+        };
+
+        final List<List<Long>> taskExecutions = new ArrayList<> ();
+        for (final long delay: delays)
+        {
+            final List<Long> times = new ArrayList<> ();
+            taskExecutions.add (times);
+            this.timerService.schedule ( () -> times.add (Long.valueOf (this.getElapsedMillis ())), delay * TICK);
+        }
+
+        this.runUntil (3 * LEVEL_3 * TICK);
+
+        for (int i = 0; i < delays.length; i++)
+        {
+            final List<Long> times = taskExecutions.get (i);
+            assertEquals (1, times.size (), "Task with delay of " + delays[i] + " ticks must be executed once.");
+            assertEquals (delays[i] * TICK, times.get (0).longValue (), "Task with delay of " + delays[i] + " ticks executed at the wrong time.");
+        }
+    }
+
+
+    @Test
+    void testTaskScheduledAfterCascade ()
+    {
+        // Move the wheel beyond the first boundaries of the higher levels
+        this.timerService.schedule (this::addExecution, (LEVEL_2 + 5) * TICK);
+        this.runUntil ((LEVEL_2 + 10) * TICK);
+
+        this.timerService.schedule (this::addExecution, LEVEL_2 * TICK);
+        this.runUntil (3 * LEVEL_2 * TICK);
+
+        assertEquals (List.of (Long.valueOf ((LEVEL_2 + 5) * TICK), Long.valueOf ((2 * LEVEL_2 + 10) * TICK)), this.executions);
+    }
+
+
+    @Test
+    void testReplaceKey ()
+    {
+        final Object key = new Object ();
+        final List<String> executed = new ArrayList<> ();
+
+        final TimerService.Task first = this.timerService.schedule (key, () -> executed.add ("first"), 100);
+        final TimerService.Task second = this.timerService.schedule (key, () -> executed.add ("second"), 200);
+        assertFalse (first.isPending ());
+        assertTrue (second.isPending ());
+
+        // The pending task is kept
+        assertSame (second, this.timerService.scheduleIfAbsent (key, () -> executed.add ("absent"), 50));
+
+        this.runUntil (150);
+        assertTrue (executed.isEmpty ());
+        assertTrue (this.timerService.isScheduled (key));
+
+        this.runUntil (300);
+        assertEquals (List.of ("second"), executed);
+        assertFalse (this.timerService.isScheduled (key));
+
+        // The key is free again after the execution
+        this.timerService.scheduleIfAbsent (key, () -> executed.add ("absent"), 50);
+        this.runUntil (400);
+        assertEquals (List.of ("second", "absent"), executed);
+    }
+
+
+    @Test
+    void testReplaceKeyOnHigherLevel ()
+    {
+        final Object key = new Object ();
+        this.timerService.schedule (key, () -> this.executions.add (Long.valueOf (-1)), (LEVEL_2 + 1) * TICK);
+        this.timerService.schedule (key, this::addExecution, 2 * TICK);
+
+        this.runUntil (2 * LEVEL_2 * TICK);
+
+        assertEquals (List.of (Long.valueOf (2 * TICK)), this.executions);
+    }
+
+
+    @Test
+    void testCancelBeforeExecution ()
+    {
+        final Object key = new Object ();
+        final TimerService.Task task = this.timerService.schedule (this::addExecution, 100);
+        this.timerService.schedule (key, this::addExecution, 100);
+        final TimerService.Task distantTask = this.timerService.schedule (this::addExecution, LEVEL_2 * TICK);
+
+        this.runUntil (50);
+        assertTrue (task.cancel ());
+        assertFalse (task.isPending ());
+        assertFalse (task.cancel ());
+        assertTrue (this.timerService.cancel (key));
+        assertFalse (this.timerService.cancel (key));
+        assertFalse (this.timerService.isScheduled (key));
+
+        // Cancel a task which is still on a higher level of the wheel
+        this.runUntil (LEVEL_1 * TICK + 50);
+        assertTrue (distantTask.cancel ());
+
+        this.runUntil (2 * LEVEL_2 * TICK);
+        assertTrue (this.executions.isEmpty ());
+    }
+
+
+    @Test
+    void testCancelAfterExecution ()
+    {
+        final TimerService.Task task = this.timerService.schedule (this::addExecution, 100);
+        this.runUntil (200);
+
+        assertEquals (1, this.executions.size ());
+        assertFalse (task.isPending ());
+        assertFalse (task.cancel ());
+    }
+
+
+    @Test
+    void testCancelPeriodicTaskFromItself ()
+    {
+        final Object key = new Object ();
+        this.timerService.schedulePeriodic (key, () -> {
+            this.addExecution ();
+            if (this.executions.size () == 3)
+                this.timerService.cancel (key);
+        }, 50);
+
+        this.runUntil (1000);
+
+        assertEquals (List.of (Long.valueOf (50), Long.valueOf (100), Long.valueOf (150)), this.executions);
+    }
+
+
+    @Test
+    void testPeriodicTaskDoesNotDrift ()
+    {
+        // The host is always late, the executions must still stay aligned to the period
+        this.hostLatency = 7 * MILLIS;
+        this.timerService.schedulePeriodic (this, this::addExecution, 30);
+
+        this.runUntil (3000 + 5);
+
+        assertEquals (100, this.executions.size ());
+        for (int i = 0; i < this.executions.size (); i++)
+        {
+            final long lateness = this.executions.get (i).longValue () - (i + 1) * 30L;
+            assertTrue (lateness >= 0 && lateness < TICK, "Execution " + i + " is off by " + lateness + "ms.");
+        }
+    }
+
+
+    @Test
+    void testPeriodicTaskSkipsMissedExecutions ()
+    {
+        this.timerService.schedulePeriodic (this, () -> {
+            this.addExecution ();
+            // Block the host for more than 2 periods on the first execution
+            if (this.executions.size () == 1)
+                this.now += 250 * MILLIS;
+        }, 100);
+
+        this.runUntil (1000);
+
+        assertEquals (List.of (Long.valueOf (100), Long.valueOf (400), Long.valueOf (500), Long.valueOf (600), Long.valueOf (700), Long.valueOf (800), Long.valueOf (900), Long.valueOf (1000)), this.executions);
+    }
+
+
+    @Test
+    void testLatencyCompensation ()
+    {
+        // After the calibration the calls are requested early enough to compensate the latency
+        this.hostLatency = 7 * MILLIS;
+        this.timerService.schedulePeriodic (this, this::addExecution, 100);
+
+        this.runUntil (10000);
+
+        final int size = this.executions.size ();
+        assertEquals (100, size);
+        for (int i = size - 10; i < size; i++)
+            assertEquals ((i + 1) * 100L, this.executions.get (i).longValue (), "Execution " + i + " is not compensated.");
+    }
+
+
+    private void addExecution ()
+    {
+        this.executions.add (Long.valueOf (this.getElapsedMillis ()));
+    }
+
+
+    private long getElapsedMillis ()
+    {
+        return (this.now - 1000 * MILLIS) / MILLIS;
+    }
+
+
+    /**
+     * Execute all calls scheduled with the host until the given time.
+     *
+     * @param millis The time in milliseconds since the start of the test
+     */
+    private void runUntil (final long millis)
+    {
+        final long end = 1000 * MILLIS + millis * MILLIS;
+        while (true)
+        {
+            Call next = null;
+            for (final Call call: this.hostCalls)
+            {
+                if (next == null || call.time < next.time)
+                    next = call;
+            }
+            if (next == null || next.time + this.hostLatency > end)
+                break;
+
+            this.hostCalls.remove (next);
+            this.now = Math.max (this.now, next.time + this.hostLatency);
+            next.task.run ();
+        }
+        this.now = Math.max (this.now, end);
+    }
+
+
+    private record Call (Runnable task, long time)
+    {
+        // Intentionally empty
+    }
+}